@@ -1,9 +1,13 @@
 package com.example.proyecto3_.controller;
 
+import com.example.proyecto3_.model.Bot.BotStrategy;
+import com.example.proyecto3_.model.Bot.IsmctsStrategy;
 import com.example.proyecto3_.model.Cards.Card;
 import com.example.proyecto3_.model.Player.Player;
-import com.example.proyecto3_.model.Game.GameModel;
 import com.example.proyecto3_.model.Game.GameConfig;
+import com.example.proyecto3_.model.Game.GameSession;
+import com.example.proyecto3_.model.Game.GameSnapshot;
+import com.example.proyecto3_.model.Game.PacingPolicy;
 import com.example.proyecto3_.view.Game;
 import com.example.proyecto3_.view.Win;
 import javafx.application.Platform;
@@ -15,15 +19,28 @@ import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
+import java.util.SplittableRandom;
 import java.util.concurrent.*;
+import java.util.random.RandomGenerator;
 
 /**
  * Controller for UI and FXML interaction in the game.
  * Delegates all game logic to GameConfig and manages thread execution for machine players.
+ * The FX thread never waits for the game session: it decides and renders from
+ * the published snapshot, and submits moves as commands whose callbacks
+ * continue the turn.
  */
 public class GameController {
 
+    /** Largest number of bot turns played in one batch. */
+    private static final int MACHINE_BATCH_TURNS = 1000;
+
+    /** Opacity of the human's cards that cannot be played right now. */
+    private static final double UNPLAYABLE_CARD_OPACITY = 0.5;
+
     @FXML private Label tableSumLabel;
     @FXML private Label topCardLabel;
     @FXML private Label currentTurnLabel;
@@ -38,20 +55,21 @@ public class GameController {
     @FXML private ImageView bot2Imageview;
     @FXML private ImageView bot3Imageview;
 
-    private final ExecutorService machineTurnExecutor = Executors.newSingleThreadExecutor(r -> {
+    // Machine turn steps are scheduled at deadlines here instead of sleeping on a thread
+    private final ScheduledExecutorService machineTurnScheduler = Executors.newScheduledThreadPool(1, r -> {
         Thread t = new Thread(r, "MachineTurnThread");
         t.setDaemon(true);
         return t;
     });
 
-    private final ScheduledExecutorService uiUpdateScheduler = Executors.newScheduledThreadPool(1, r -> {
-        Thread t = new Thread(r, "UIUpdateThread");
-        t.setDaemon(true);
-        return t;
-    });
+    // Pacing delays use their own generator so they never consume the game's random stream
+    private final RandomGenerator pacingRandom = new SplittableRandom();
 
     private volatile boolean isMachineTurnRunning = false;
 
+    // Bumped every time the human hand is redrawn, so a late highlight for an old hand is dropped
+    private int humanHandGeneration = 0;
+
     /**
      * Initializes the game controller.
      * Configures UI elements based on number of bots and starts the game.
@@ -73,11 +91,12 @@ public class GameController {
      */
     @FXML
     private void onDrawFromDeck() {
-        if (GameConfig.getInstance().drawCard()) {
-            updateUI();
-            GameConfig.getInstance().completeTurn();
-            processTurn();
-        }
+        GameConfig config = GameConfig.getInstance();
+        config.drawCardAsync().thenAccept(drawn -> {
+            if (drawn) {
+                config.completeTurnAsync().thenRun(() -> Platform.runLater(this::processTurn));
+            }
+        });
     }
 
     /**
@@ -86,144 +105,262 @@ public class GameController {
      * @param card the card clicked by the player
      */
     private void onCardClicked(Card card) {
-        if (GameConfig.getInstance().playCard(card)) {
-            updateUI();
-        }
+        GameConfig.getInstance().playCardAsync(card).thenAccept(played -> {
+            if (played) {
+                updateUI();
+            }
+        });
     }
 
     /**
      * Processes the current turn for human or machine players.
      * Checks game over condition and delegates to appropriate turn handler.
+     * Every decision comes from the latest snapshot, which is current here:
+     * this runs after the command that changed the turn has completed.
      */
     private void processTurn() {
-        try {
-            if (GameConfig.getInstance().isGameOver()) {
-                showWinner();
-                shutdown();
-                return;
-            }
+        GameSnapshot snapshot = GameConfig.getInstance().getSnapshot();
 
-            Player currentPlayer = GameConfig.getInstance().getGame().getCurrentPlayer();
+        if (snapshot.isGameOver()) {
+            showWinner();
+            shutdown();
+            return;
+        }
 
-            if (!GameConfig.getInstance().canCurrentPlayerPlay()) {
-                handlePlayerElimination();
-                return;
-            }
+        if (!snapshot.canCurrentPlayerPlay()) {
+            handlePlayerElimination();
+            return;
+        }
 
-            if (currentPlayer.isMachine()) {
-                executeMachineTurn();
+        if (snapshot.isMachine(snapshot.getCurrentSeat())) {
+            BotStrategy strategy = GameConfig.getInstance().getBotStrategy();
+            if (snapshot.isEliminated(0)) {
+                executeMachineBatch(strategy);
+            } else {
+                executeMachineTurn(strategy);
             }
-
-            updateUI();
-
-        } catch (IOException e) {
-            throw new RuntimeException(e);
         }
+
+        updateUI();
     }
 
     /**
-     * Executes a machine player's turn using a single thread with delays.
-     * Simulates thinking time and plays a card automatically.
+     * Executes a machine player's turn as a chain of scheduled steps.
+     * The pauses come from the configured PacingPolicy, and each step runs at a
+     * deadline measured from the start of the turn, so no thread sleeps and
+     * slow steps do not push the rest of the turn back.
+     * @param strategy the strategy that chooses the card
      */
-    private void executeMachineTurn() {
+    private void executeMachineTurn(BotStrategy strategy) {
         if (isMachineTurnRunning) return;
 
         isMachineTurnRunning = true;
 
-        machineTurnExecutor.submit(() -> {
-            try {
-                Thread.sleep(2000 + (long)(Math.random() * 2000));
+        PacingPolicy pacing = GameConfig.getInstance().getPacingPolicy();
+        if (strategy instanceof IsmctsStrategy) {
+            executeSearchTurn(strategy, pacing);
+            return;
+        }
 
-                Player machine = GameConfig.getInstance().getGame().getCurrentPlayer();
+        long playAt = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(pacing.thinkMillis(pacingRandom));
+        long drawAt = playAt + TimeUnit.MILLISECONDS.toNanos(pacing.drawMillis(pacingRandom));
+        long endAt = drawAt + TimeUnit.MILLISECONDS.toNanos(pacing.endMillis());
 
-                if (!machine.canPlay(GameConfig.getInstance().getGame().getTableSum())) {
-                    Platform.runLater(() -> {
-                        isMachineTurnRunning = false;
-                        handlePlayerElimination();
-                    });
-                    return;
-                }
+        scheduleAt(playAt, () -> playMachineCard(strategy, drawAt, endAt));
+    }
 
-                Card selectedCard = machine.selectCard(GameConfig.getInstance().getGame().getTableSum());
-                if (selectedCard == null) {
-                    Platform.runLater(() -> {
-                        isMachineTurnRunning = false;
-                        handlePlayerElimination();
-                    });
-                    return;
-                }
+    /**
+     * First step of a machine turn: chooses and plays a card, or eliminates the player.
+     * @param strategy the strategy that chooses the card
+     * @param drawAt deadline of the draw step, in System.nanoTime() units
+     * @param endAt deadline of the last step, in System.nanoTime() units
+     */
+    private void playMachineCard(BotStrategy strategy, long drawAt, long endAt) {
+        Player machine = GameConfig.getInstance().getGame().getCurrentPlayer();
 
-                // STEP 1: Play the card
-                try {
-                    GameConfig.getInstance().getGame().playCard(selectedCard);
-                    Platform.runLater(this::updateUI);
-                } catch (Exception e) {
-                    System.err.println("Bot movimiento inválido: " + e.getMessage());
-                    Platform.runLater(() -> {
-                        isMachineTurnRunning = false;
-                        handlePlayerElimination();
-                    });
-                    return;
-                }
+        if (!machine.canPlay(GameConfig.getInstance().getGame().getTableSum())) {
+            Platform.runLater(() -> {
+                isMachineTurnRunning = false;
+                handlePlayerElimination();
+            });
+            return;
+        }
 
-                Thread.sleep(2000 + (long)(Math.random() * 1000));
+        Card selectedCard = strategy.selectCard(GameConfig.getInstance().getGame());
+        if (selectedCard == null) {
+            Platform.runLater(() -> {
+                isMachineTurnRunning = false;
+                handlePlayerElimination();
+            });
+            return;
+        }
 
-                // STEP 2: Draw a card
-                try {
-                    GameConfig.getInstance().getGame().drawCard();
-                    Platform.runLater(this::updateUI);
-                } catch (Exception e) {
-                    System.err.println("Bot no pudo robar: " + e.getMessage());
-                }
+        try {
+            GameConfig.getInstance().getGame().playCard(selectedCard);
+            Platform.runLater(this::updateUI);
+        } catch (Exception e) {
+            System.err.println("Bot movimiento inválido: " + e.getMessage());
+            Platform.runLater(() -> {
+                isMachineTurnRunning = false;
+                handlePlayerElimination();
+            });
+            return;
+        }
 
-                Thread.sleep(1000);
+        scheduleAt(drawAt, () -> drawMachineCard(endAt));
+    }
 
-                // STEP 3: Complete turn
+    /**
+     * Second step of a machine turn: draws a card.
+     * @param endAt deadline of the last step, in System.nanoTime() units
+     */
+    private void drawMachineCard(long endAt) {
+        try {
+            GameConfig.getInstance().getGame().drawCard();
+            Platform.runLater(this::updateUI);
+        } catch (Exception e) {
+            System.err.println("Bot no pudo robar: " + e.getMessage());
+        }
+
+        scheduleAt(endAt, this::endMachineTurn);
+    }
+
+    /**
+     * Last step of a machine turn: completes it on the FX thread and moves on.
+     */
+    private void endMachineTurn() {
+        GameConfig.getInstance().completeTurnAsync().thenRun(() -> Platform.runLater(() -> {
+            isMachineTurnRunning = false;
+            processTurn();
+        }));
+    }
+
+    /**
+     * Executes a machine turn for a searching bot. The search replaces the
+     * thinking pause: it runs as a command of the game session for its own time budget
+     * and plays and draws there, then the end of the turn is scheduled as usual.
+     * @param strategy the searching strategy
+     * @param pacing the pacing for the end of the turn
+     */
+    private void executeSearchTurn(BotStrategy strategy, PacingPolicy pacing) {
+        GameConfig.getInstance().processMachineTurnAsync(strategy).whenComplete((result, error) -> {
+            if (error != null) {
+                System.err.println("Error en la búsqueda del bot: " + error.getMessage());
+                Platform.runLater(() -> isMachineTurnRunning = false);
+                return;
+            }
+            if (!result.isSuccess()) {
                 Platform.runLater(() -> {
-                    GameConfig.getInstance().completeTurn();
                     isMachineTurnRunning = false;
-                    processTurn();
+                    handlePlayerElimination();
                 });
+                return;
+            }
+            Platform.runLater(this::updateUI);
+            scheduleAt(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(pacing.endMillis()), this::endMachineTurn);
+        });
+    }
 
-            } catch (InterruptedException e) {
-                System.err.println("Machine turn interrupted: " + e.getMessage());
-                Thread.currentThread().interrupt();
+    /**
+     * Plays the remaining bot-only turns in one batch once the human is out.
+     * The turns run as a single command of the game session,
+     * and the resulting events are replayed on screen with the usual pacing.
+     * @param strategy the strategy that chooses the cards
+     */
+    private void executeMachineBatch(BotStrategy strategy) {
+        if (isMachineTurnRunning) return;
+
+        isMachineTurnRunning = true;
+
+        PacingPolicy pacing = GameConfig.getInstance().getPacingPolicy();
+        GameConfig.getInstance().runMachineTurnsAsync(strategy, MACHINE_BATCH_TURNS).whenComplete((events, error) -> {
+            if (error != null) {
+                System.err.println("Error en los turnos de los bots: " + error.getMessage());
                 Platform.runLater(() -> isMachineTurnRunning = false);
+                return;
             }
+
+            long at = System.nanoTime();
+            for (GameSession.TurnEvent event : events) {
+                at += TimeUnit.MILLISECONDS.toNanos(pacing.thinkMillis(pacingRandom));
+                scheduleAt(at, () -> Platform.runLater(() -> showTurnEvent(event)));
+            }
+            scheduleAt(at + TimeUnit.MILLISECONDS.toNanos(pacing.endMillis()), () -> Platform.runLater(() -> {
+                isMachineTurnRunning = false;
+                updateUI();
+                processTurn();
+            }));
         });
     }
 
+    /**
+     * Shows one replayed machine turn in the labels.
+     * @param event the turn to show
+     */
+    private void showTurnEvent(GameSession.TurnEvent event) {
+        if (event.isElimination()) {
+            System.out.println(event.getPlayerName() + " ha sido eliminado.");
+        } else if (topCardLabel != null) {
+            topCardLabel.setText("Ultima carta jugada: " + translateCardToSpanish(event.getPlayedCard()));
+        }
+        if (tableSumLabel != null) {
+            tableSumLabel.setText("Total de puntos: " + event.getTableSum());
+        }
+        if (currentTurnLabel != null) {
+            currentTurnLabel.setText(" " + event.getPlayerName());
+        }
+    }
+
+    /**
+     * Schedules a step of a machine turn to run at a deadline. At the deadline
+     * the step is queued in the game session's mailbox, so it is the only
+     * code touching the game while it runs. Deadlines already passed queue
+     * the step right away.
+     * @param deadline when to run, in System.nanoTime() units
+     * @param step the step to run
+     */
+    private void scheduleAt(long deadline, Runnable step) {
+        GameSession session = GameConfig.getInstance().getSession();
+        machineTurnScheduler.schedule(() -> session.execute(step),
+                Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+    }
+
     /**
      * Handles player elimination when they cannot play.
-     * Removes the player and continues to the next turn.
+     * Removes the player and continues to the next turn. Both commands are
+     * queued at once; the mailbox runs them in order.
      */
     private void handlePlayerElimination() {
-        String eliminatedPlayer = GameConfig.getInstance().eliminateCurrentPlayer();
-        System.out.println(eliminatedPlayer + " ha sido eliminado.");
-
-        GameConfig.getInstance().completeTurn();
-        processTurn();
+        GameConfig config = GameConfig.getInstance();
+        config.eliminateCurrentPlayerAsync()
+                .thenAccept(eliminatedPlayer -> System.out.println(eliminatedPlayer + " ha sido eliminado."));
+        config.completeTurnAsync().thenRun(() -> Platform.runLater(this::processTurn));
     }
 
     /**
      * Shows the winner screen when the game ends.
-     * Transitions to the Win view with the winner's name.
-     * @throws IOException if the Win scene cannot be loaded
+     * Transitions to the Win view with the winner's name once the session has
+     * recorded the win.
      */
-    private void showWinner() throws IOException {
-        Player winner = GameConfig.getInstance().getWinner();
+    private void showWinner() {
+        GameConfig.getInstance().getWinnerAsync().thenAccept(winner -> Platform.runLater(() -> {
+            if (winner == null) {
+                return;
+            }
+            try {
+                Win winScene = Win.getInstance();
 
-        if (winner != null) {
-            Win winScene = Win.getInstance();
+                if (winScene != null && winScene.getController() != null) {
+                    winScene.getController().setWinnerName(winner.getName());
+                } else {
+                    System.err.println("Error: Win o su controlador es null");
+                }
 
-            if (winScene != null && winScene.getController() != null) {
-                winScene.getController().setWinnerName(winner.getName());
-            } else {
-                System.err.println("Error: Win o su controlador es null");
+                Game.deleteInstance();
+            } catch (IOException e) {
+                throw new RuntimeException(e);
             }
-
-            Game.deleteInstance();
-        }
+        }));
     }
 
     /**
@@ -231,18 +368,13 @@ public class GameController {
      * Waits for threads to terminate before forcing shutdown.
      */
     private void shutdown() {
-        machineTurnExecutor.shutdown();
-        uiUpdateScheduler.shutdown();
+        machineTurnScheduler.shutdown();
         try {
-            if (!machineTurnExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
-                machineTurnExecutor.shutdownNow();
-            }
-            if (!uiUpdateScheduler.awaitTermination(5, TimeUnit.SECONDS)) {
-                uiUpdateScheduler.shutdownNow();
+            if (!machineTurnScheduler.awaitTermination(5, TimeUnit.SECONDS)) {
+                machineTurnScheduler.shutdownNow();
             }
         } catch (InterruptedException e) {
-            machineTurnExecutor.shutdownNow();
-            uiUpdateScheduler.shutdownNow();
+            machineTurnScheduler.shutdownNow();
             Thread.currentThread().interrupt();
         }
     }
@@ -295,39 +427,42 @@ public class GameController {
 
     /**
      * Updates the entire UI with current game state.
-     * Called whenever the game state changes.
+     * Called whenever the game state changes. Everything is drawn from the
+     * latest published snapshot, so rendering never reads the live game or
+     * waits for a machine turn in progress.
      */
     private void updateUI() {
         Platform.runLater(() -> {
-            GameModel game = GameConfig.getInstance().getGame();
+            GameSnapshot snapshot = GameConfig.getInstance().getSnapshot();
 
-            updateLabels(game);
-            updateTableArea(game);
-            updateHumanHand(game);
-            updateBotHands(game);
+            updateLabels(snapshot);
+            updateTableArea(snapshot);
+            updateHumanHand(snapshot);
+            updateBotHands(snapshot);
         });
     }
 
     /**
      * Updates all text labels with current game information.
      * Includes table sum, top card, current turn, and statistics.
-     * @param game the current game model
+     * @param snapshot the game snapshot to show
      */
-    private void updateLabels(GameModel game) {
+    private void updateLabels(GameSnapshot snapshot) {
         if (tableSumLabel != null) {
-            tableSumLabel.setText("Total de puntos: " + game.getTableSum());
+            tableSumLabel.setText("Total de puntos: " + snapshot.getTableSum());
         }
 
-        if (topCardLabel != null && game.getTopCard() != null) {
-            Card topCard = game.getTopCard();
+        if (topCardLabel != null && snapshot.getTopCard() != null) {
+            Card topCard = snapshot.getTopCard();
             String cardText = translateCardToSpanish(topCard);
             topCardLabel.setText("Ultima carta jugada: " + cardText);
         }
 
         if (currentTurnLabel != null) {
-            String turnText = " " + game.getCurrentPlayer().getName();
+            int seat = snapshot.getCurrentSeat();
+            String turnText = " " + snapshot.getPlayerName(seat);
 
-            if (!game.getCurrentPlayer().isMachine()) {
+            if (!snapshot.isMachine(seat)) {
                 if (!GameConfig.getInstance().hasHumanPlayedCard()) {
                     turnText += " - Juega una carta";
                 } else if (!GameConfig.getInstance().hasHumanDrawnCard()) {
@@ -339,11 +474,10 @@ public class GameController {
         }
 
         if (statsLabel != null) {
-            GameModel.GameStats stats = game.getStats();
             statsLabel.setText(
-                    "Turnos: " + stats.getTotalTurns() +
-                            " | Cartas: " + stats.getCardsPlayed() +
-                            " | Eliminados: " + stats.getPlayersEliminated()
+                    "Turnos: " + snapshot.getTotalTurns() +
+                            " | Cartas: " + snapshot.getCardsPlayed() +
+                            " | Eliminados: " + snapshot.getPlayersEliminated()
             );
         }
     }
@@ -402,11 +536,11 @@ public class GameController {
     /**
      * Updates the table area with card images.
      * Shows the top card and deck with remaining cards count.
-     * @param game the current game model
+     * @param snapshot the game snapshot to show
      */
-    private void updateTableArea(GameModel game) {
-        if (game.getTopCard() != null && tableCardButton != null) {
-            Card topCard = game.getTopCard();
+    private void updateTableArea(GameSnapshot snapshot) {
+        Card topCard = snapshot.getTopCard();
+        if (topCard != null && tableCardButton != null) {
             ImageView cardImage = createCardImageView(topCard, 100, 120);
             tableCardButton.setGraphic(cardImage);
             tableCardButton.setText("");
@@ -417,7 +551,7 @@ public class GameController {
         }
 
         if (deckButton != null) {
-            int deckSize = game.getDeckSize();
+            int deckSize = snapshot.getDeckSize();
             ImageView deckImage = createCardBackImageView(100, 120);
             deckButton.setGraphic(deckImage);
             deckButton.setText("(" + deckSize + ")");
@@ -428,51 +562,71 @@ public class GameController {
     /**
      * Updates the human player's hand display.
      * Creates clickable buttons for each card in the player's hand.
-     * @param game the current game model
+     * @param snapshot the game snapshot to show
      */
-    private void updateHumanHand(GameModel game) {
+    private void updateHumanHand(GameSnapshot snapshot) {
         if (humanHandBox == null) return;
 
         humanHandBox.getChildren().clear();
 
-        Player human = game.getPlayers().get(0);
-        for (Card card : human.getHand()) {
+        List<Button> cardButtons = new ArrayList<>();
+        for (Card card : snapshot.getHand(0)) {
             Button cardButton = createCardButton(card);
             cardButton.setOnAction(e -> onCardClicked(card));
             humanHandBox.getChildren().add(cardButton);
+            cardButtons.add(cardButton);
+        }
+
+        int generation = ++humanHandGeneration;
+        GameConfig.getInstance().validateHandAsync(0).thenAccept(playable -> Platform.runLater(() -> {
+            if (generation == humanHandGeneration) {
+                highlightPlayableCards(cardButtons, playable);
+            }
+        }));
+    }
+
+    /**
+     * Dims the human's cards that cannot be played right now.
+     * @param cardButtons the hand's buttons, in hand order
+     * @param playable hand positions of the playable cards
+     */
+    private void highlightPlayableCards(List<Button> cardButtons, BitSet playable) {
+        for (int i = 0; i < cardButtons.size(); i++) {
+            cardButtons.get(i).setOpacity(playable.get(i) ? 1.0 : UNPLAYABLE_CARD_OPACITY);
         }
     }
 
     /**
      * Updates the bots' hand displays.
      * Shows card backs for each bot's hand.
-     * @param game the current game model
+     * @param snapshot the game snapshot to show
      */
-    private void updateBotHands(GameModel game) {
-        List<Player> players = game.getPlayers();
+    private void updateBotHands(GameSnapshot snapshot) {
+        int numPlayers = snapshot.getNumPlayers();
 
-        if (bot1Area != null && players.size() > 1) {
-            updateBotArea(bot1Area, players.get(1));
+        if (bot1Area != null && numPlayers > 1) {
+            updateBotArea(bot1Area, snapshot, 1);
         }
 
-        if (bot2Area != null && players.size() > 2) {
-            updateBotArea(bot2Area, players.get(2));
+        if (bot2Area != null && numPlayers > 2) {
+            updateBotArea(bot2Area, snapshot, 2);
         }
 
-        if (bot3Area != null && players.size() > 3) {
-            updateBotArea(bot3Area, players.get(3));
+        if (bot3Area != null && numPlayers > 3) {
+            updateBotArea(bot3Area, snapshot, 3);
         }
     }
 
     /**
      * Updates a single bot area with card backs.
      * @param botArea the HBox container for the bot's cards
-     * @param bot the bot player
+     * @param snapshot the game snapshot to show
+     * @param seat the bot's seat
      */
-    private void updateBotArea(HBox botArea, Player bot) {
+    private void updateBotArea(HBox botArea, GameSnapshot snapshot, int seat) {
         botArea.getChildren().clear();
-        if (!bot.isEliminated()) {
-            for (int i = 0; i < bot.getHand().size(); i++) {
+        if (!snapshot.isEliminated(seat)) {
+            for (int i = 0; i < snapshot.getHandSize(seat); i++) {
                 ImageView cardBack = createCardBackImageView(100, 120);
                 botArea.getChildren().add(cardBack);
             }
@@ -0,0 +1,78 @@
+package com.example.proyecto3_.model.Bot;
+
+import com.example.proyecto3_.model.Cards.Card;
+
+/**
+ * Strategy used by machine players to choose which card to play.
+ * Implementations must only return cards that are playable in the given view,
+ * and should not allocate, so they can be compared at simulation speed.
+ */
+public interface BotStrategy {
+
+    /** System property that names the strategy of the desktop game's machine players. */
+    String PROPERTY = "proyecto3.botStrategy";
+
+    /**
+     * Chooses a card for the current player.
+     * @param view read-only view of the game
+     * @return a playable card from the current player's hand, or null if none is playable
+     */
+    Card selectCard(GameView view);
+
+    /**
+     * Gets a short name for reports and logs.
+     * @return the strategy name
+     */
+    String getName();
+
+    /**
+     * Creates one of the built-in strategies by name. learned-policy and
+     * endgame-table load the files given by
+     * {@link LearnedPolicyStrategy#fromSystemProperties()} and
+     * {@link EndgameTableStrategy#fromSystemProperties()}.
+     * @param name first-legal, min-delta, max-delta, keep-negatives, random-legal,
+     *             ismcts, learned-policy or endgame-table
+     * @return a new strategy instance
+     * @throws IllegalArgumentException if the name is unknown
+     */
+    static BotStrategy named(String name) {
+        switch (name) {
+            case "first-legal":
+                return new FirstLegalStrategy();
+            case "min-delta":
+                return new MinDeltaStrategy();
+            case "max-delta":
+                return new MaxDeltaStrategy();
+            case "keep-negatives":
+                return new KeepNegativesStrategy();
+            case "random-legal":
+                return new RandomLegalStrategy();
+            case "ismcts":
+                return new IsmctsStrategy();
+            case "learned-policy":
+                return LearnedPolicyStrategy.fromSystemProperties();
+            case "endgame-table":
+                return EndgameTableStrategy.fromSystemProperties();
+            default:
+                throw new IllegalArgumentException("Unknown bot strategy: " + name);
+        }
+    }
+
+    /**
+     * Creates the strategy named by the PROPERTY system property, so the
+     * desktop game can play with any built-in strategy, learned-policy and
+     * endgame-table included, without code changes.
+     * @return the named strategy, or first-legal if the property is unset or unknown
+     */
+    static BotStrategy fromSystemProperty() {
+        String value = System.getProperty(PROPERTY);
+        if (value != null) {
+            try {
+                return named(value.trim());
+            } catch (IllegalArgumentException e) {
+                System.err.println("Estrategia de bot desconocida: " + value);
+            }
+        }
+        return new FirstLegalStrategy();
+    }
+}
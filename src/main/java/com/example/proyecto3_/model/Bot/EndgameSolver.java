@@ -0,0 +1,324 @@
+package com.example.proyecto3_.model.Bot;
+
+import com.example.proyecto3_.model.Cards.Card;
+import com.example.proyecto3_.model.Cards.PlayabilityIndex;
+import com.example.proyecto3_.model.Game.GameModel;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+/**
+ * Offline retrograde solver for the single-player survival endgame.
+ * A state is (turns left to survive, table sum, rank composition of a full
+ * hand). Turns left plays the role of "cards left": the solver maximizes the
+ * chance of still having a legal card for that many more own turns. Between
+ * two own turns each opponent plays a uniformly random legal rank, and draws
+ * come from an infinite shoe (every rank equally likely), so the table is
+ * independent of the exact deck. Layers are solved bottom-up, one turn at a
+ * time, with the sums of each layer split over a fork-join pool.
+ *
+ * <p>The result is written as a policy table: a header followed by one byte
+ * per state with the best rank index to play, or {@link #NO_MOVE}.
+ * {@link EndgameTableStrategy} memory-maps it and answers with a single lookup.
+ */
+public class EndgameSolver {
+
+    /** Magic number at the start of a table file ("END1"). */
+    public static final int MAGIC = 0x454E4431;
+
+    /** Lowest solved sum; lower sums are treated as this one. */
+    public static final int MIN_SUM = -40;
+
+    /** Highest possible sum on the table. */
+    public static final int MAX_SUM = Card.MAX_SUM;
+
+    /** Number of solved sums. */
+    public static final int SUMS = MAX_SUM - MIN_SUM + 1;
+
+    /** Policy entry of a state where no card can be played. */
+    public static final byte NO_MOVE = -1;
+
+    /** Size of the file header in bytes. */
+    public static final int HEADER_BYTES = 6 * Integer.BYTES;
+
+    private static final int RANKS = Card.RANK_COUNT;
+    private static final int HAND = GameModel.CARDS_PER_HAND;
+
+    /** Number of distinct rank compositions of a full hand (multisets of 4 out of 13). */
+    public static final int HANDS;
+
+    // Hand index by packed sorted ranks (4 bits each), and ranks by hand index
+    private static final short[] INDEX_BY_PACKED = new short[1 << (4 * HAND)];
+    private static final int[] PACKED_BY_INDEX;
+
+    // Hand reached by playing the card at a position and drawing a rank
+    private static final int[] NEXT_HAND;
+
+    static {
+        int count = 0;
+        int[] packed = new int[1 << (4 * HAND)];
+        for (int a = 0; a < RANKS; a++) {
+            for (int b = a; b < RANKS; b++) {
+                for (int c = b; c < RANKS; c++) {
+                    for (int d = c; d < RANKS; d++) {
+                        int key = (a << 12) | (b << 8) | (c << 4) | d;
+                        INDEX_BY_PACKED[key] = (short) count;
+                        packed[count++] = key;
+                    }
+                }
+            }
+        }
+        HANDS = count;
+        PACKED_BY_INDEX = Arrays.copyOf(packed, count);
+
+        NEXT_HAND = new int[HANDS * HAND * RANKS];
+        for (int hand = 0; hand < HANDS; hand++) {
+            for (int pos = 0; pos < HAND; pos++) {
+                for (int drawn = 0; drawn < RANKS; drawn++) {
+                    int[] ranks = ranksOf(hand);
+                    ranks[pos] = drawn;
+                    NEXT_HAND[(hand * HAND + pos) * RANKS + drawn] = indexOf(ranks[0], ranks[1], ranks[2], ranks[3]);
+                }
+            }
+        }
+    }
+
+    private final int horizon;
+    private final int opponents;
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates a solver.
+     * @param horizon number of own turns to survive (1-127)
+     * @param opponents opponent turns between two own turns
+     * @param pool the pool that solves each layer
+     */
+    public EndgameSolver(int horizon, int opponents, ForkJoinPool pool) {
+        if (horizon < 1 || horizon > Byte.MAX_VALUE) {
+            throw new IllegalArgumentException("Horizon must be between 1 and " + Byte.MAX_VALUE);
+        }
+        if (opponents < 1 || opponents >= GameModel.MAX_PLAYERS) {
+            throw new IllegalArgumentException("Opponents must be between 1 and " + (GameModel.MAX_PLAYERS - 1));
+        }
+        this.horizon = horizon;
+        this.opponents = opponents;
+        this.pool = pool;
+    }
+
+    /**
+     * Solves every layer and returns the policy table.
+     * Entry (h, sum, hand) is at ((h - 1) * SUMS + sum - MIN_SUM) * HANDS + hand.
+     * @return best rank per state, or NO_MOVE
+     */
+    public byte[] solve() {
+        byte[] policy = new byte[horizon * SUMS * HANDS];
+        double[] survive = new double[SUMS * HANDS];
+        double[] afterOpponents = new double[SUMS * HANDS];
+        double[] scratch = new double[SUMS * HANDS];
+        Arrays.fill(survive, 1.0);
+
+        for (int h = 1; h <= horizon; h++) {
+            // Let the opponents move the sum, starting from the previous layer
+            System.arraycopy(survive, 0, afterOpponents, 0, survive.length);
+            for (int k = 0; k < opponents; k++) {
+                double[] from = afterOpponents;
+                double[] to = scratch;
+                forEachSum(s -> opponentStep(from, to, s));
+                scratch = afterOpponents;
+                afterOpponents = to;
+            }
+
+            // Then pick the best own move against those sums
+            double[] next = afterOpponents;
+            double[] values = survive;
+            int layer = (h - 1) * SUMS * HANDS;
+            forEachSum(s -> ownTurn(next, values, policy, layer, s));
+        }
+        return policy;
+    }
+
+    /**
+     * Averages a layer over the legal ranks an opponent may play at one sum.
+     * An opponent with no legal rank is eliminated and leaves the sum alone.
+     */
+    private static void opponentStep(double[] from, double[] to, int s) {
+        int sum = s + MIN_SUM;
+        int legal = PlayabilityIndex.legalRankMask(sum);
+        int row = s * HANDS;
+        if (legal == 0) {
+            System.arraycopy(from, row, to, row, HANDS);
+            return;
+        }
+        double weight = 1.0 / Integer.bitCount(legal);
+        Arrays.fill(to, row, row + HANDS, 0.0);
+        for (int m = legal; m != 0; m &= m - 1) {
+            int target = slotOf(PlayabilityIndex.resultingSum(sum, Integer.numberOfTrailingZeros(m))) * HANDS;
+            for (int hand = 0; hand < HANDS; hand++) {
+                to[row + hand] += weight * from[target + hand];
+            }
+        }
+    }
+
+    /**
+     * Computes the value and best rank of every hand at one sum.
+     */
+    private static void ownTurn(double[] next, double[] values, byte[] policy, int layer, int s) {
+        int sum = s + MIN_SUM;
+        int legal = PlayabilityIndex.legalRankMask(sum);
+        for (int hand = 0; hand < HANDS; hand++) {
+            int packed = PACKED_BY_INDEX[hand];
+            double best = 0.0;
+            int bestRank = NO_MOVE;
+            int tried = 0;
+            for (int pos = 0; pos < HAND; pos++) {
+                int rank = (packed >>> (4 * (HAND - 1 - pos))) & 0xF;
+                if ((legal & (1 << rank)) == 0 || (tried & (1 << rank)) != 0) {
+                    continue;
+                }
+                tried |= 1 << rank;
+                int target = slotOf(PlayabilityIndex.resultingSum(sum, rank)) * HANDS;
+                int base = (hand * HAND + pos) * RANKS;
+                double value = 0.0;
+                for (int drawn = 0; drawn < RANKS; drawn++) {
+                    value += next[target + NEXT_HAND[base + drawn]];
+                }
+                value /= RANKS;
+                if (bestRank == NO_MOVE || value > best) {
+                    best = value;
+                    bestRank = rank;
+                }
+            }
+            values[s * HANDS + hand] = best;
+            policy[layer + s * HANDS + hand] = (byte) bestRank;
+        }
+    }
+
+    /**
+     * Runs a body for every sum slot on the pool.
+     */
+    private void forEachSum(IntConsumer body) {
+        pool.invoke(new SumTask(0, SUMS, body));
+    }
+
+    /**
+     * Fork-join task that halves its range of sum slots until it is small.
+     */
+    private static class SumTask extends RecursiveAction {
+        private static final int SUMS_PER_TASK = 8;
+
+        private final int from;
+        private final int to;
+        private final IntConsumer body;
+
+        /**
+         * Creates a task for a range of sum slots.
+         * @param from first slot, inclusive
+         * @param to last slot, exclusive
+         * @param body the work for one slot
+         */
+        SumTask(int from, int to, IntConsumer body) {
+            this.from = from;
+            this.to = to;
+            this.body = body;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SUMS_PER_TASK) {
+                for (int s = from; s < to; s++) {
+                    body.accept(s);
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new SumTask(from, mid, body), new SumTask(mid, to, body));
+        }
+    }
+
+    /**
+     * Writes a solved policy table with its header.
+     * @param policy the table returned by solve()
+     * @param out the stream to write to
+     * @throws IOException if writing fails
+     */
+    public void write(byte[] policy, OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeInt(horizon);
+        data.writeInt(opponents);
+        data.writeInt(MIN_SUM);
+        data.writeInt(MAX_SUM);
+        data.writeInt(HANDS);
+        data.write(policy);
+        data.flush();
+    }
+
+    /**
+     * Maps a table sum to its sum slot, clamping low sums.
+     * @param sum the sum on the table
+     * @return slot index in [0, SUMS)
+     */
+    static int slotOf(int sum) {
+        return Math.max(sum, MIN_SUM) - MIN_SUM;
+    }
+
+    /**
+     * Gets the index of a hand from its four ranks, in any order.
+     * @return hand index in [0, HANDS)
+     */
+    static int indexOf(int a, int b, int c, int d) {
+        // Sorting network for four values
+        int t;
+        if (a > b) { t = a; a = b; b = t; }
+        if (c > d) { t = c; c = d; d = t; }
+        if (a > c) { t = a; a = c; c = t; }
+        if (b > d) { t = b; b = d; d = t; }
+        if (b > c) { t = b; b = c; c = t; }
+        return INDEX_BY_PACKED[(a << 12) | (b << 8) | (c << 4) | d];
+    }
+
+    /**
+     * Gets the sorted ranks of a hand index.
+     * @param hand the hand index
+     * @return four rank indexes, lowest first
+     */
+    static int[] ranksOf(int hand) {
+        int packed = PACKED_BY_INDEX[hand];
+        return new int[]{packed >>> 12, (packed >>> 8) & 0xF, (packed >>> 4) & 0xF, packed & 0xF};
+    }
+
+    /**
+     * Solves a table and writes it to a file.
+     * Arguments (all optional): [file] [horizon] [opponents] [threads]
+     * @param args command line arguments
+     * @throws IOException if the file cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        Path file = Path.of(args.length > 0 ? args[0] : "endgame.bin");
+        int horizon = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+        int opponents = args.length > 2 ? Integer.parseInt(args[2]) : 1;
+        int threads = args.length > 3 ? Integer.parseInt(args[3]) : Runtime.getRuntime().availableProcessors();
+
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            long start = System.nanoTime();
+            EndgameSolver solver = new EndgameSolver(horizon, opponents, pool);
+            byte[] policy = solver.solve();
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file))) {
+                solver.write(policy, out);
+            }
+            System.out.printf("Tabla escrita en %s: %d estados en %.2f s%n",
+                    file, policy.length, (System.nanoTime() - start) / 1e9);
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.example.proyecto3_.model.Bot;
+
+import com.example.proyecto3_.model.Cards.Card;
+import com.example.proyecto3_.model.Game.GameModel;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Plays from a policy table written by {@link EndgameSolver}.
+ * The file is memory-mapped once, and every decision is one lookup by
+ * (horizon, table sum, hand composition). Hands that are not full, and tables
+ * solved for a different number of opponents than are still in play, are
+ * not covered and fall back to another strategy.
+ */
+public class EndgameTableStrategy implements BotStrategy {
+
+    /** System property with the path of the table loaded by {@link BotStrategy#named}. */
+    public static final String PROPERTY = "proyecto3.endgameTable";
+
+    /** System property naming the fallback strategy used by {@link BotStrategy#named}. */
+    public static final String FALLBACK_PROPERTY = "proyecto3.endgameFallback";
+
+    /** Table read when PROPERTY is not set; the file EndgameSolver.main writes by default. */
+    public static final String DEFAULT_FILE = "endgame.bin";
+
+    private final MappedByteBuffer table;
+    private final int tableHorizon;
+    private final int opponents;
+    private final int horizon;
+    private final BotStrategy fallback;
+
+    /**
+     * Maps a table and plays with its longest horizon.
+     * @param file the table file
+     * @throws IOException if the file cannot be read or is not a policy table
+     */
+    public EndgameTableStrategy(Path file) throws IOException {
+        this(file, 0, new FirstLegalStrategy());
+    }
+
+    /**
+     * Maps a table and plays with a given horizon.
+     * @param file the table file
+     * @param horizon own turns to survive, or 0 for the longest in the table
+     * @param fallback strategy used when the table does not cover the position
+     * @throws IOException if the file cannot be read or is not a policy table
+     */
+    public EndgameTableStrategy(Path file, int horizon, BotStrategy fallback) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            this.table = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (table.limit() < EndgameSolver.HEADER_BYTES
+                || table.getInt(0) != EndgameSolver.MAGIC
+                || table.getInt(12) != EndgameSolver.MIN_SUM
+                || table.getInt(16) != EndgameSolver.MAX_SUM
+                || table.getInt(20) != EndgameSolver.HANDS) {
+            throw new IOException("Not an endgame policy table: " + file);
+        }
+        this.tableHorizon = table.getInt(4);
+        this.opponents = table.getInt(8);
+        long expected = EndgameSolver.HEADER_BYTES + (long) tableHorizon * EndgameSolver.SUMS * EndgameSolver.HANDS;
+        if (table.limit() != expected) {
+            throw new IOException("Truncated endgame policy table: " + file);
+        }
+        if (horizon < 0 || horizon > tableHorizon) {
+            throw new IllegalArgumentException("Horizon must be between 1 and " + tableHorizon);
+        }
+        this.horizon = horizon == 0 ? tableHorizon : horizon;
+        this.fallback = fallback;
+    }
+
+    /**
+     * Loads the table named by the PROPERTY system property, or DEFAULT_FILE
+     * in the working directory, with the strategy named by FALLBACK_PROPERTY
+     * (first-legal by default) as fallback. A missing or invalid table is
+     * reported and the fallback plays alone, so a simulation still runs.
+     * @return the table strategy, or the fallback if the table cannot be mapped
+     * @throws IllegalArgumentException if the fallback name is unknown or is endgame-table
+     */
+    public static BotStrategy fromSystemProperties() {
+        Path file = Path.of(System.getProperty(PROPERTY, DEFAULT_FILE));
+        String fallbackName = System.getProperty(FALLBACK_PROPERTY, "first-legal").trim();
+        if (fallbackName.equals("endgame-table")) {
+            throw new IllegalArgumentException("The endgame table cannot be its own fallback");
+        }
+        BotStrategy fallback = BotStrategy.named(fallbackName);
+        try {
+            return new EndgameTableStrategy(file, 0, fallback);
+        } catch (IOException e) {
+            System.err.println("No se pudo cargar la tabla de finales " + file + ": " + e.getMessage());
+            return fallback;
+        }
+    }
+
+    @Override
+    public Card selectCard(GameView view) {
+        int seat = view.getCurrentPlayerIndex();
+        if (view.getHandSize(seat) != GameModel.CARDS_PER_HAND || liveOpponents(view) != opponents) {
+            return fallback.selectCard(view);
+        }
+
+        int hand = EndgameSolver.indexOf(
+                view.getCurrentHandCard(0).getRankIndex(),
+                view.getCurrentHandCard(1).getRankIndex(),
+                view.getCurrentHandCard(2).getRankIndex(),
+                view.getCurrentHandCard(3).getRankIndex());
+        int slot = EndgameSolver.slotOf(view.getTableSum());
+        int rank = table.get(EndgameSolver.HEADER_BYTES
+                + ((horizon - 1) * EndgameSolver.SUMS + slot) * EndgameSolver.HANDS + hand);
+        if (rank == EndgameSolver.NO_MOVE) {
+            return null;
+        }
+
+        // Any card of the chosen rank will do; take the first one in hand order
+        for (int i = 0; i < GameModel.CARDS_PER_HAND; i++) {
+            Card card = view.getCurrentHandCard(i);
+            if (card.getRankIndex() == rank) {
+                return card;
+            }
+        }
+        return fallback.selectCard(view);
+    }
+
+    /**
+     * Counts the players still in the game besides the current one.
+     * @param view the game view
+     * @return opponents left
+     */
+    private static int liveOpponents(GameView view) {
+        int active = 0;
+        for (int seat = 0; seat < view.getNumPlayers(); seat++) {
+            if (!view.isEliminated(seat)) {
+                active++;
+            }
+        }
+        return active - 1;
+    }
+
+    /**
+     * Gets the number of opponents the table was solved for.
+     * @return opponent turns between two own turns
+     */
+    public int getOpponents() {
+        return opponents;
+    }
+
+    /**
+     * Gets the horizon used for lookups.
+     * @return own turns the policy tries to survive
+     */
+    public int getHorizon() {
+        return horizon;
+    }
+
+    @Override
+    public String getName() {
+        return "endgame-table";
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.proyecto3_.model.Bot;
+
+import com.example.proyecto3_.model.Cards.Card;
+
+/**
+ * Plays the first playable card in hand order.
+ * This is the original machine player behavior.
+ */
+public class FirstLegalStrategy implements BotStrategy {
+
+    @Override
+    public Card selectCard(GameView view) {
+        long playable = view.getPlayableMask();
+        if (playable == 0) {
+            return null;
+        }
+
+        int handSize = view.getHandSize(view.getCurrentPlayerIndex());
+        for (int i = 0; i < handSize; i++) {
+            Card card = view.getCurrentHandCard(i);
+            if ((playable >>> card.getId() & 1L) != 0) {
+                return card;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public String getName() {
+        return "first-legal";
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.proyecto3_.model.Bot;
+
+import com.example.proyecto3_.model.Cards.Card;
+import java.util.random.RandomGenerator;
+
+/**
+ * Read-only view of a game, as seen by the player whose turn it is.
+ * Every method is allocation-free so strategies can run at simulation speed.
+ */
+public interface GameView {
+
+    /**
+     * Gets the current sum of card values on the table.
+     * @return the sum on the table
+     */
+    int getTableSum();
+
+    /**
+     * Gets the top card on the table.
+     * @return the top card, or null if the table is empty
+     */
+    Card getTopCard();
+
+    /**
+     * Gets the number of cards left in the deck.
+     * @return deck size
+     */
+    int getDeckSize();
+
+    /**
+     * Gets the total number of cards in play (deck, hands and table together).
+     * @return 52 times the number of decks in the shoe
+     */
+    int getShoeSize();
+
+    /**
+     * Gets how many cards of a rank are face up on the table, top card included.
+     * @param rankIndex the rank index (0-12)
+     * @return number of cards of that rank on the table
+     */
+    int getTableRankCount(int rankIndex);
+
+    /**
+     * Gets how many cards of a rank are left in the deck.
+     * @param rankIndex the rank index (0-12)
+     * @return number of cards of that rank in the deck
+     */
+    int getDeckRankCount(int rankIndex);
+
+    /**
+     * Gets the chance that the next card drawn from the deck has a rank.
+     * @param rankIndex the rank index (0-12)
+     * @return probability between 0 and 1, or 0 if the deck is empty
+     */
+    double getDrawProbability(int rankIndex);
+
+    /**
+     * Gets the number of seats at the table.
+     * @return number of players, eliminated ones included
+     */
+    int getNumPlayers();
+
+    /**
+     * Gets the seat whose turn it is.
+     * @return the current seat
+     */
+    int getCurrentPlayerIndex();
+
+    /**
+     * Checks if the player at a seat has been eliminated.
+     * @param seat the seat index
+     * @return true if eliminated
+     */
+    boolean isEliminated(int seat);
+
+    /**
+     * Gets the number of cards held by the player at a seat.
+     * @param seat the seat index
+     * @return hand size
+     */
+    int getHandSize(int seat);
+
+    /**
+     * Gets a card of the current player's hand, in hand order.
+     * @param index position in the hand
+     * @return the card at that position
+     */
+    Card getCurrentHandCard(int index);
+
+    /**
+     * Gets the distinct cards held by the current player.
+     * @return mask with one bit set per card id in hand
+     */
+    long getCurrentHandMask();
+
+    /**
+     * Gets the cards of the current player that can be played now.
+     * @return mask with one bit set per playable card id in hand
+     */
+    long getPlayableMask();
+
+    /**
+     * Gets the random generator of the game, for strategies that randomize.
+     * @return the game's random generator
+     */
+    RandomGenerator getRandom();
+}
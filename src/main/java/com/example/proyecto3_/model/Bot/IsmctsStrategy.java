@@ -0,0 +1,388 @@
+package com.example.proyecto3_.model.Bot;
+
+import com.example.proyecto3_.model.Cards.Card;
+import java.util.SplittableRandom;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Information-Set Monte Carlo Tree Search bot (single observer).
+ * Every iteration deals the unseen cards at random (a determinization), walks
+ * the shared tree choosing among the moves legal in that deal, expands one new
+ * move and finishes the game with a random rollout on a {@link SearchState}.
+ * The search is anytime: it stops when the time budget or the iteration cap
+ * runs out and plays the most visited move. Moves are ranks, since suits never
+ * change the outcome; a seat with no legal card gets a forced "eliminated"
+ * move, so the children of a node always belong to one seat. Nodes live in
+ * arrays that searches borrow from a bounded free list and give back, so a
+ * search allocates no tree whatever thread it runs on.
+ * With more than one thread the search is root-parallel: every worker grows
+ * its own tree from its own random stream and the root visit counts of all
+ * trees are added up before the move is chosen. Every instance submits its
+ * workers to one search pool shared by the whole process, so bots never own
+ * threads and need no cleanup.
+ */
+public class IsmctsStrategy implements BotStrategy {
+
+    /** Time budget used when none is given. */
+    public static final long DEFAULT_BUDGET_MILLIS = 500;
+
+    /** Maximum number of tree nodes per search. */
+    public static final int MAX_NODES = 1 << 16;
+
+    /** UCB exploration constant. */
+    public static final double EXPLORATION = 0.7;
+
+    private static final int NONE = -1;
+
+    /** Move of a node whose seat had no legal card and was knocked out. */
+    static final int ELIMINATED = Card.RANK_COUNT;
+
+    /**
+     * Holds the search pool, created the first time a parallel search runs.
+     * Its workers are daemon threads sized to the machine, shared by every bot.
+     */
+    private static class PoolHolder {
+        private static final ForkJoinPool POOL = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    }
+
+    // Trees not in use, shared by every bot; beyond the bound, returned trees are dropped
+    static final ArrayBlockingQueue<SearchTree> FREE_TREES =
+            new ArrayBlockingQueue<>(2 * Runtime.getRuntime().availableProcessors());
+
+    // Card ids of each rank, one bit per suit
+    private static final long[] RANK_CARDS = new long[Card.RANK_COUNT];
+
+    static {
+        for (int id = 0; id < Card.CARD_COUNT; id++) {
+            RANK_CARDS[id % Card.RANK_COUNT] |= 1L << id;
+        }
+    }
+
+    private final long budgetNanos;
+    private final int maxIterations;
+    private final SplittableRandom random;
+    private final int threads;
+
+    private volatile int lastIterations;
+
+    /**
+     * Creates a bot with the default time budget.
+     */
+    public IsmctsStrategy() {
+        this(DEFAULT_BUDGET_MILLIS);
+    }
+
+    /**
+     * Creates a bot that thinks for a fixed time per move on every core.
+     * @param budgetMillis time budget per move in milliseconds
+     */
+    public IsmctsStrategy(long budgetMillis) {
+        this(budgetMillis, Integer.MAX_VALUE, new SplittableRandom(),
+                Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a bot limited by time and by number of iterations per move.
+     * A fixed iteration cap with a seeded generator gives reproducible moves.
+     * @param budgetMillis time budget per move in milliseconds
+     * @param maxIterations maximum iterations per move
+     * @param random generator for determinizations and rollouts
+     */
+    public IsmctsStrategy(long budgetMillis, int maxIterations, SplittableRandom random) {
+        this(budgetMillis, maxIterations, random, 1);
+    }
+
+    /**
+     * Creates a bot that searches on several threads at once.
+     * The iteration cap is shared out evenly between the threads, and a seeded
+     * generator gives the same moves for a given thread count. The workers run
+     * on the shared search pool; more workers than cores simply take turns.
+     * @param budgetMillis time budget per move in milliseconds
+     * @param maxIterations maximum iterations per move, over all threads
+     * @param random generator for determinizations and rollouts
+     * @param threads number of search threads
+     */
+    public IsmctsStrategy(long budgetMillis, int maxIterations, SplittableRandom random, int threads) {
+        if (budgetMillis <= 0 || maxIterations <= 0) {
+            throw new IllegalArgumentException("Search budget must be positive");
+        }
+        if (threads < 1) {
+            throw new IllegalArgumentException("Search needs at least one thread");
+        }
+        this.budgetNanos = budgetMillis * 1_000_000L;
+        this.maxIterations = maxIterations;
+        this.random = random;
+        this.threads = threads;
+    }
+
+    @Override
+    public Card selectCard(GameView view) {
+        long playable = view.getPlayableMask();
+        if (playable == 0) {
+            return null;
+        }
+
+        int legalRanks = 0;
+        for (long m = playable; m != 0; m &= m - 1) {
+            legalRanks |= 1 << (Long.numberOfTrailingZeros(m) % Card.RANK_COUNT);
+        }
+        if (Integer.bitCount(legalRanks) == 1) {
+            lastIterations = 0;
+            return Card.of(Long.numberOfTrailingZeros(playable));
+        }
+
+        SplittableRandom[] streams = new SplittableRandom[threads];
+        synchronized (random) {
+            for (int t = 0; t < threads; t++) {
+                streams[t] = random.split();
+            }
+        }
+        long deadline = System.nanoTime() + budgetNanos;
+        int iterationsPerThread = Math.max(1, maxIterations / threads);
+        int[] rootVisits = new int[Card.RANK_COUNT];
+
+        if (threads == 1) {
+            SearchTree tree = borrowTree();
+            try {
+                tree.search(view, streams[0], deadline, iterationsPerThread);
+                tree.addRootVisits(rootVisits);
+                lastIterations = tree.iterations;
+            } finally {
+                FREE_TREES.offer(tree);
+            }
+        } else {
+            // The tree goes back to the free list, so each task copies its results out
+            int[] iterationsByTask = new int[threads];
+            @SuppressWarnings("unchecked")
+            ForkJoinTask<int[]>[] tasks = new ForkJoinTask[threads];
+            for (int t = 0; t < threads; t++) {
+                int task = t;
+                tasks[t] = PoolHolder.POOL.submit(() -> {
+                    SearchTree tree = borrowTree();
+                    try {
+                        tree.search(view, streams[task], deadline, iterationsPerThread);
+                        int[] visits = new int[Card.RANK_COUNT];
+                        tree.addRootVisits(visits);
+                        iterationsByTask[task] = tree.iterations;
+                        return visits;
+                    } finally {
+                        FREE_TREES.offer(tree);
+                    }
+                });
+            }
+            int total = 0;
+            for (int t = 0; t < threads; t++) {
+                int[] visits = tasks[t].join();
+                for (int r = 0; r < Card.RANK_COUNT; r++) {
+                    rootVisits[r] += visits[r];
+                }
+                total += iterationsByTask[t];
+            }
+            lastIterations = total;
+        }
+
+        // Most visited legal rank over all trees, lowest rank on ties
+        int best = Integer.numberOfTrailingZeros(legalRanks);
+        for (int m = legalRanks; m != 0; m &= m - 1) {
+            int rank = Integer.numberOfTrailingZeros(m);
+            if (rootVisits[rank] > rootVisits[best]) {
+                best = rank;
+            }
+        }
+        return Card.of(Long.numberOfTrailingZeros(playable & RANK_CARDS[best]));
+    }
+
+    /**
+     * Takes a tree from the free list, or creates one if every tree is in use.
+     * @return a tree owned by the caller until it is offered back
+     */
+    private static SearchTree borrowTree() {
+        SearchTree tree = FREE_TREES.poll();
+        return tree != null ? tree : new SearchTree();
+    }
+
+    /**
+     * Gets how many iterations the last search completed, over all threads.
+     * @return iterations of the last move, 0 if the move was forced
+     */
+    public int getLastIterations() {
+        return lastIterations;
+    }
+
+    /**
+     * Gets the number of threads each search runs on.
+     * @return search threads
+     */
+    public int getThreads() {
+        return threads;
+    }
+
+    @Override
+    public String getName() {
+        return "ismcts";
+    }
+
+    /**
+     * Search tree stored as parallel arrays indexed by node, so a search
+     * allocates nothing once the arrays and the state exist.
+     */
+    static class SearchTree {
+        final int[] move = new int[MAX_NODES];
+        final int[] player = new int[MAX_NODES];
+        final int[] parent = new int[MAX_NODES];
+        final int[] firstChild = new int[MAX_NODES];
+        final int[] nextSibling = new int[MAX_NODES];
+        final int[] childRanks = new int[MAX_NODES];
+        final int[] visits = new int[MAX_NODES];
+        final int[] available = new int[MAX_NODES];
+        final double[] wins = new double[MAX_NODES];
+        int nodeCount;
+        int iterations;
+        private SearchState state;
+
+        /**
+         * Runs iterations from the current position until the deadline or the cap.
+         * @param view the game as seen by the player to move
+         * @param random generator for determinizations and rollouts
+         * @param deadline System.nanoTime() value at which to stop
+         * @param maxIterations maximum number of iterations
+         */
+        void search(GameView view, SplittableRandom random, long deadline, int maxIterations) {
+            if (state == null || state.numPlayers != view.getNumPlayers()
+                    || state.deck.length != view.getShoeSize()) {
+                state = new SearchState(view.getNumPlayers(), view.getShoeSize());
+            }
+            nodeCount = 0;
+            int root = newNode(NONE, NONE, NONE);
+
+            iterations = 0;
+            do {
+                iterate(root, view, random);
+                iterations++;
+            } while (iterations < maxIterations && System.nanoTime() < deadline);
+        }
+
+        /**
+         * Adds the visit count of every move at the root of the last search.
+         * @param visitsByRank counts indexed by rank, updated in place
+         */
+        void addRootVisits(int[] visitsByRank) {
+            // The root is always the first node taken from the pool
+            for (int child = firstChild[0]; child != NONE; child = nextSibling[child]) {
+                if (move[child] != ELIMINATED) {
+                    visitsByRank[move[child]] += visits[child];
+                }
+            }
+        }
+
+        /**
+         * Runs one select / expand / rollout / backpropagate pass.
+         */
+        private void iterate(int root, GameView view, SplittableRandom random) {
+            state.determinize(view, random);
+            int node = root;
+
+            // Selection and expansion, following only moves legal in this deal
+            while (!state.isTerminal()) {
+                int legal = state.legalRankMask();
+                if (legal == 0) {
+                    // The knock-out is a node of its own, so the next seat's moves hang below it
+                    int seat = state.current();
+                    state.eliminateCurrent();
+                    if ((childRanks[node] & (1 << ELIMINATED)) != 0) {
+                        node = eliminatedChild(node);
+                    } else if (nodeCount < MAX_NODES) {
+                        node = newNode(node, ELIMINATED, seat);
+                    } else {
+                        break;
+                    }
+                    continue;
+                }
+
+                int untried = legal & ~childRanks[node];
+                if (untried != 0 && nodeCount < MAX_NODES) {
+                    int rank = SearchState.pickBit(untried, random);
+                    node = newNode(node, rank, state.current());
+                    state.play(rank);
+                    break;
+                }
+
+                int chosen = select(node, legal);
+                if (chosen == NONE) {
+                    break;
+                }
+                node = chosen;
+                state.play(move[node]);
+            }
+
+            int winner = state.rollout(random);
+
+            for (; node != NONE; node = parent[node]) {
+                visits[node]++;
+                if (winner == player[node]) {
+                    wins[node] += 1.0;
+                }
+            }
+        }
+
+        /**
+         * Picks the child with the best UCB score among the moves legal now,
+         * counting one availability for each of them.
+         * @return the chosen child, or NONE if no legal move has a node
+         */
+        private int select(int node, int legal) {
+            int best = NONE;
+            double bestScore = Double.NEGATIVE_INFINITY;
+            for (int child = firstChild[node]; child != NONE; child = nextSibling[child]) {
+                if ((legal & (1 << move[child])) == 0) {
+                    continue;
+                }
+                available[child]++;
+                double score = wins[child] / visits[child]
+                        + EXPLORATION * Math.sqrt(Math.log(available[child]) / visits[child]);
+                if (score > bestScore) {
+                    bestScore = score;
+                    best = child;
+                }
+            }
+            return best;
+        }
+
+        /**
+         * Finds the forced elimination move among a node's children.
+         * @return the child, or NONE if the node has none
+         */
+        private int eliminatedChild(int node) {
+            for (int child = firstChild[node]; child != NONE; child = nextSibling[child]) {
+                if (move[child] == ELIMINATED) {
+                    return child;
+                }
+            }
+            return NONE;
+        }
+
+        /**
+         * Takes the next node from the pool and links it under its parent.
+         */
+        private int newNode(int parentNode, int rank, int seat) {
+            int node = nodeCount++;
+            move[node] = rank;
+            player[node] = seat;
+            parent[node] = parentNode;
+            firstChild[node] = NONE;
+            nextSibling[node] = NONE;
+            childRanks[node] = 0;
+            visits[node] = 0;
+            available[node] = 1;
+            wins[node] = 0.0;
+            if (parentNode != NONE) {
+                nextSibling[node] = firstChild[parentNode];
+                firstChild[parentNode] = node;
+                childRanks[parentNode] |= 1 << rank;
+            }
+            return node;
+        }
+    }
+}
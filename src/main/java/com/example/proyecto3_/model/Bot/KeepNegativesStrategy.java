@@ -0,0 +1,43 @@
+package com.example.proyecto3_.model.Bot;
+
+import com.example.proyecto3_.model.Cards.Card;
+import com.example.proyecto3_.model.Cards.PlayabilityIndex;
+
+/**
+ * Saves the cards that lower the sum (J, Q, K) for when nothing else fits.
+ * Plays the largest non-negative card that keeps the sum at or under 50, and
+ * only falls back to a negative card when it is the only option.
+ */
+public class KeepNegativesStrategy implements BotStrategy {
+
+    @Override
+    public Card selectCard(GameView view) {
+        int sum = view.getTableSum();
+        long playable = view.getPlayableMask();
+        int best = -1;
+        int bestDelta = Integer.MIN_VALUE;
+        int negative = -1;
+
+        while (playable != 0) {
+            int id = Long.numberOfTrailingZeros(playable);
+            playable &= playable - 1;
+            int delta = PlayabilityIndex.delta(sum, id % Card.RANK_COUNT);
+            if (delta < 0) {
+                negative = id;
+            } else if (delta > bestDelta) {
+                bestDelta = delta;
+                best = id;
+            }
+        }
+
+        if (best >= 0) {
+            return Card.of(best);
+        }
+        return negative < 0 ? null : Card.of(negative);
+    }
+
+    @Override
+    public String getName() {
+        return "keep-negatives";
+    }
+}
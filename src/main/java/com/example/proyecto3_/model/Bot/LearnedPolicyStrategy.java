@@ -0,0 +1,201 @@
+package com.example.proyecto3_.model.Bot;
+
+import com.example.proyecto3_.model.Cards.Card;
+import com.example.proyecto3_.model.Cards.PlayabilityIndex;
+import com.example.proyecto3_.model.Game.GameModel;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.random.RandomGenerator;
+
+/**
+ * Plays with a tabular policy learned by self-play (see SelfPlayTrainer).
+ * Every playable card is scored by one table lookup keyed by the table sum,
+ * the card's rank and how many negative cards (J, Q, K) would stay in hand,
+ * and the best score wins. A decision is a few array loads, no search.
+ */
+public class LearnedPolicyStrategy implements BotStrategy {
+
+    /** System property with the path of the weights loaded by {@link BotStrategy#named}. */
+    public static final String PROPERTY = "proyecto3.policyFile";
+
+    /** Weights read when PROPERTY is not set; the file SelfPlayTrainer.main writes by default. */
+    public static final String DEFAULT_FILE = "policy.bin";
+
+    /** Magic number at the start of a weights file ("POL1"). */
+    public static final int MAGIC = 0x504F4C31;
+
+    /** Lowest sum with its own entry; lower sums share it. */
+    public static final int MIN_SUM = -40;
+
+    /** Number of sum slots, from MIN_SUM to 50. */
+    public static final int SUMS = Card.MAX_SUM - MIN_SUM + 1;
+
+    /** Buckets for the negative cards kept in hand: 0 up to 3 or more. */
+    public static final int NEGATIVE_BUCKETS = GameModel.CARDS_PER_HAND;
+
+    /** Number of weights in a policy. */
+    public static final int ENTRIES = SUMS * Card.RANK_COUNT * NEGATIVE_BUCKETS;
+
+    // Ranks that lower the sum, one bit per rank index
+    private static final int NEGATIVE_RANKS;
+
+    static {
+        int mask = 0;
+        for (int r = 0; r < Card.RANK_COUNT; r++) {
+            if (PlayabilityIndex.delta(0, r) < 0) {
+                mask |= 1 << r;
+            }
+        }
+        NEGATIVE_RANKS = mask;
+    }
+
+    private final float[] weights;
+    private final double epsilon;
+    private final RandomGenerator random;
+
+    /**
+     * Loads a policy from a weights file and always plays its best card.
+     * @param file the weights file
+     * @throws IOException if the file cannot be read or is not a weights file
+     */
+    public LearnedPolicyStrategy(Path file) throws IOException {
+        this(read(file), 0.0, null);
+    }
+
+    /**
+     * Creates a policy from weights, exploring at random with some probability.
+     * @param weights one weight per entry, as indexed by entryOf()
+     * @param epsilon chance of playing a random legal card instead of the best one
+     * @param random generator for exploration, or null if epsilon is 0
+     */
+    public LearnedPolicyStrategy(float[] weights, double epsilon, RandomGenerator random) {
+        if (weights.length != ENTRIES) {
+            throw new IllegalArgumentException("A policy needs " + ENTRIES + " weights");
+        }
+        if (epsilon > 0.0 && random == null) {
+            throw new IllegalArgumentException("Exploration needs a random generator");
+        }
+        this.weights = weights;
+        this.epsilon = epsilon;
+        this.random = random;
+    }
+
+    /**
+     * Loads the weights named by the PROPERTY system property, or DEFAULT_FILE
+     * in the working directory. A missing or invalid file is reported and
+     * first-legal plays instead, so a simulation still runs.
+     * @return the learned policy, or a FirstLegalStrategy if the weights cannot be read
+     */
+    public static BotStrategy fromSystemProperties() {
+        Path file = Path.of(System.getProperty(PROPERTY, DEFAULT_FILE));
+        try {
+            return new LearnedPolicyStrategy(file);
+        } catch (IOException e) {
+            System.err.println("No se pudo cargar la política aprendida " + file + ": " + e.getMessage());
+            return new FirstLegalStrategy();
+        }
+    }
+
+    @Override
+    public Card selectCard(GameView view) {
+        long playable = view.getPlayableMask();
+        if (playable == 0) {
+            return null;
+        }
+
+        if (epsilon > 0.0 && random.nextDouble() < epsilon) {
+            for (int skip = random.nextInt(Long.bitCount(playable)); skip > 0; skip--) {
+                playable &= playable - 1;
+            }
+            return Card.of(Long.numberOfTrailingZeros(playable));
+        }
+
+        int sum = view.getTableSum();
+        int negatives = negativesInHand(view);
+        int best = -1;
+        float bestScore = Float.NEGATIVE_INFINITY;
+        while (playable != 0) {
+            int id = Long.numberOfTrailingZeros(playable);
+            playable &= playable - 1;
+            int rank = id % Card.RANK_COUNT;
+            float score = weights[entryOf(sum, rank, negatives - (isNegative(rank) ? 1 : 0))];
+            if (score > bestScore) {
+                bestScore = score;
+                best = id;
+            }
+        }
+        return Card.of(best);
+    }
+
+    @Override
+    public String getName() {
+        return "learned-policy";
+    }
+
+    /**
+     * Counts the negative cards in the current player's hand.
+     * @param view the game view
+     * @return number of J, Q and K held
+     */
+    public static int negativesInHand(GameView view) {
+        int count = 0;
+        int size = view.getHandSize(view.getCurrentPlayerIndex());
+        for (int i = 0; i < size; i++) {
+            if (isNegative(view.getCurrentHandCard(i).getRankIndex())) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Checks if a rank lowers the sum.
+     * @param rankIndex the rank index (0-12)
+     * @return true for J, Q and K
+     */
+    public static boolean isNegative(int rankIndex) {
+        return (NEGATIVE_RANKS & (1 << rankIndex)) != 0;
+    }
+
+    /**
+     * Gets the weight index of a move.
+     * @param sum the table sum before the move
+     * @param rankIndex the rank played
+     * @param negativesKept negative cards left in hand after the move
+     * @return index in [0, ENTRIES)
+     */
+    public static int entryOf(int sum, int rankIndex, int negativesKept) {
+        int slot = Math.max(sum, MIN_SUM) - MIN_SUM;
+        int bucket = Math.min(negativesKept, NEGATIVE_BUCKETS - 1);
+        return (slot * Card.RANK_COUNT + rankIndex) * NEGATIVE_BUCKETS + bucket;
+    }
+
+    /**
+     * Reads the weights of a policy file.
+     * @param file the weights file
+     * @return the weights
+     * @throws IOException if the file cannot be read or is not a weights file
+     */
+    public static float[] read(Path file) throws IOException {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+            DataInputStream data = new DataInputStream(in);
+            if (data.readInt() != MAGIC || data.readInt() != SUMS
+                    || data.readInt() != Card.RANK_COUNT || data.readInt() != NEGATIVE_BUCKETS) {
+                throw new IOException("Not a policy weights file: " + file);
+            }
+            float[] weights = new float[ENTRIES];
+            for (int i = 0; i < ENTRIES; i++) {
+                weights[i] = data.readFloat();
+            }
+            return weights;
+        } catch (EOFException e) {
+            throw new IOException("Truncated policy weights file: " + file, e);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.proyecto3_.model.Bot;
+
+import com.example.proyecto3_.model.Cards.Card;
+import com.example.proyecto3_.model.Cards.PlayabilityIndex;
+
+/**
+ * Greedy strategy that plays the card raising the table sum the least.
+ * Keeps the sum low so the next players have room to play.
+ */
+public class MinDeltaStrategy implements BotStrategy {
+
+    @Override
+    public Card selectCard(GameView view) {
+        int sum = view.getTableSum();
+        long playable = view.getPlayableMask();
+        int best = -1;
+        int bestDelta = Integer.MAX_VALUE;
+
+        while (playable != 0) {
+            int id = Long.numberOfTrailingZeros(playable);
+            playable &= playable - 1;
+            int delta = PlayabilityIndex.delta(sum, id % Card.RANK_COUNT);
+            if (delta < bestDelta) {
+                bestDelta = delta;
+                best = id;
+            }
+        }
+        return best < 0 ? null : Card.of(best);
+    }
+
+    @Override
+    public String getName() {
+        return "min-delta";
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.proyecto3_.model.Bot;
+
+import com.example.proyecto3_.model.Cards.Card;
+
+/**
+ * Plays a uniformly random playable card, drawing from the game's generator
+ * so seeded games stay reproducible. The choice is over hand positions, so
+ * with a multi-deck shoe two copies of a card are twice as likely as one.
+ */
+public class RandomLegalStrategy implements BotStrategy {
+
+    @Override
+    public Card selectCard(GameView view) {
+        long playable = view.getPlayableMask();
+        if (playable == 0) {
+            return null;
+        }
+
+        int size = view.getHandSize(view.getCurrentPlayerIndex());
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if ((playable & (1L << view.getCurrentHandCard(i).getId())) != 0) {
+                count++;
+            }
+        }
+
+        // Skip a random number of playable positions, then take the next one
+        int skip = view.getRandom().nextInt(count);
+        for (int i = 0; ; i++) {
+            Card card = view.getCurrentHandCard(i);
+            if ((playable & (1L << card.getId())) != 0 && skip-- == 0) {
+                return card;
+            }
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "random-legal";
+    }
+}
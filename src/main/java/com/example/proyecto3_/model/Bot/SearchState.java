@@ -0,0 +1,266 @@
+package com.example.proyecto3_.model.Bot;
+
+import com.example.proyecto3_.model.Cards.Card;
+import com.example.proyecto3_.model.Cards.PlayabilityIndex;
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Compact, fully determined game state used by search bots for fast rollouts.
+ * Suits never matter for the rules, so hands, deck and table are kept as ranks
+ * in primitive arrays. Applies the same turn rules as GameModel: play a card
+ * (or be eliminated, returning the hand to the top of the deck), draw one card
+ * recycling the table when the deck is empty, then pass the turn.
+ */
+public class SearchState {
+
+    private static final int RANKS = Card.RANK_COUNT;
+
+    /** Ply limit after which a rollout is abandoned with no winner. */
+    public static final int MAX_ROLLOUT_PLIES = 1000;
+
+    final int numPlayers;
+    final int[] hands;
+    final int[] handSizes;
+    final boolean[] active;
+    final byte[] deck;
+    int deckSize;
+    final int[] pileCounts = new int[RANKS];
+    int topRank;
+    int activeCount;
+    int current;
+    int sum;
+
+    // Generator used to reshuffle recycled cards, set by determinize() and rollout()
+    private RandomGenerator random;
+    private final int[] unseen = new int[RANKS];
+
+    /**
+     * Creates an empty state for a table and shoe size.
+     * @param numPlayers number of seats
+     * @param shoeSize total number of cards in play
+     */
+    public SearchState(int numPlayers, int shoeSize) {
+        this.numPlayers = numPlayers;
+        this.hands = new int[numPlayers * RANKS];
+        this.handSizes = new int[numPlayers];
+        this.active = new boolean[numPlayers];
+        this.deck = new byte[shoeSize];
+    }
+
+    /**
+     * Gets the ranks the current player can legally play.
+     * @return mask with one bit set per playable rank index
+     */
+    public int legalRankMask() {
+        int legal = PlayabilityIndex.legalRankMask(sum);
+        int base = current * RANKS;
+        int held = 0;
+        for (int r = 0; r < RANKS; r++) {
+            if (hands[base + r] > 0) {
+                held |= 1 << r;
+            }
+        }
+        return held & legal;
+    }
+
+    /**
+     * Plays a legal rank for the current player, draws and passes the turn.
+     * @param rank the rank index to play
+     */
+    public void play(int rank) {
+        hands[current * RANKS + rank]--;
+        handSizes[current]--;
+        pileCounts[topRank]++;
+        topRank = rank;
+        sum = PlayabilityIndex.resultingSum(sum, rank);
+        draw();
+        advance();
+    }
+
+    /**
+     * Eliminates the current player, whose hand goes back on top of the deck.
+     */
+    public void eliminateCurrent() {
+        int base = current * RANKS;
+        for (int r = 0; r < RANKS; r++) {
+            for (int c = hands[base + r]; c > 0; c--) {
+                deck[deckSize++] = (byte) r;
+            }
+            hands[base + r] = 0;
+        }
+        handSizes[current] = 0;
+        active[current] = false;
+        activeCount--;
+        advance();
+    }
+
+    /**
+     * Plays random legal moves until the game ends or the ply limit is reached.
+     * @param random the generator for moves and reshuffles
+     * @return the winning seat, or -1 if the rollout was abandoned
+     */
+    public int rollout(RandomGenerator random) {
+        this.random = random;
+        for (int ply = 0; ply < MAX_ROLLOUT_PLIES && activeCount > 1; ply++) {
+            int legal = legalRankMask();
+            if (legal == 0) {
+                eliminateCurrent();
+            } else {
+                play(pickBit(legal, random));
+            }
+        }
+        return winner();
+    }
+
+    /**
+     * Checks if at most one player remains.
+     * @return true if the game is over
+     */
+    public boolean isTerminal() {
+        return activeCount <= 1;
+    }
+
+    /**
+     * Gets the winner of a finished game.
+     * @return the winning seat, or -1 if the game is not over
+     */
+    public int winner() {
+        if (activeCount != 1) {
+            return -1;
+        }
+        for (int seat = 0; seat < numPlayers; seat++) {
+            if (active[seat]) {
+                return seat;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Gets the seat whose turn it is.
+     * @return the current seat
+     */
+    public int current() {
+        return current;
+    }
+
+    /**
+     * Picks a uniformly random set bit of a mask.
+     * @param mask a non-zero mask
+     * @param random the generator to use
+     * @return index of the chosen bit
+     */
+    public static int pickBit(int mask, RandomGenerator random) {
+        for (int skip = random.nextInt(Integer.bitCount(mask)); skip > 0; skip--) {
+            mask &= mask - 1;
+        }
+        return Integer.numberOfTrailingZeros(mask);
+    }
+
+    /**
+     * Draws one card for the current player, recycling the table if needed.
+     */
+    private void draw() {
+        if (deckSize == 0) {
+            for (int r = 0; r < RANKS; r++) {
+                for (int c = pileCounts[r]; c > 0; c--) {
+                    deck[deckSize++] = (byte) r;
+                }
+                pileCounts[r] = 0;
+            }
+            shuffle(deck, deckSize, random);
+        }
+        if (deckSize > 0) {
+            int r = deck[--deckSize];
+            hands[current * RANKS + r]++;
+            handSizes[current]++;
+        }
+    }
+
+    /**
+     * Passes the turn to the next active seat.
+     */
+    private void advance() {
+        if (activeCount == 0) {
+            return;
+        }
+        do {
+            current = (current + 1) % numPlayers;
+        } while (!active[current]);
+    }
+
+    /**
+     * Shuffles the first n entries of an array in place (Fisher-Yates).
+     * @param a the array
+     * @param n number of entries to shuffle
+     * @param random the generator to use
+     */
+    static void shuffle(byte[] a, int n, RandomGenerator random) {
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            byte tmp = a[i];
+            a[i] = a[j];
+            a[j] = tmp;
+        }
+    }
+
+    /**
+     * Rebuilds this state as one random determinization of what the current
+     * player of a game can see: own hand, table and hand sizes are exact, while
+     * the unseen cards are shuffled and dealt to the opponents and the deck.
+     * @param view the game as seen by the player to move
+     * @param random the generator used to deal the unseen cards
+     */
+    public void determinize(GameView view, RandomGenerator random) {
+        int me = view.getCurrentPlayerIndex();
+        Arrays.fill(hands, 0);
+        int unseenPerRank = view.getShoeSize() / RANKS;
+        Arrays.fill(unseen, unseenPerRank);
+
+        int mySize = view.getHandSize(me);
+        for (int i = 0; i < mySize; i++) {
+            int r = view.getCurrentHandCard(i).getRankIndex();
+            hands[me * RANKS + r]++;
+            unseen[r]--;
+        }
+
+        Card top = view.getTopCard();
+        topRank = top == null ? 0 : top.getRankIndex();
+        for (int r = 0; r < RANKS; r++) {
+            int onTable = view.getTableRankCount(r);
+            unseen[r] -= onTable;
+            pileCounts[r] = onTable;
+        }
+        if (top != null) {
+            pileCounts[topRank]--;
+        }
+
+        // Shuffle every unseen card, then deal opponents' hands and leave the rest as the deck
+        int n = 0;
+        for (int r = 0; r < RANKS; r++) {
+            for (int c = unseen[r]; c > 0; c--) {
+                deck[n++] = (byte) r;
+            }
+        }
+        shuffle(deck, n, random);
+
+        activeCount = 0;
+        for (int seat = 0; seat < numPlayers; seat++) {
+            active[seat] = !view.isEliminated(seat);
+            handSizes[seat] = view.getHandSize(seat);
+            if (active[seat]) {
+                activeCount++;
+            }
+            if (seat != me) {
+                for (int c = handSizes[seat]; c > 0 && n > 0; c--) {
+                    hands[seat * RANKS + deck[--n]]++;
+                }
+            }
+        }
+        deckSize = n;
+        current = me;
+        sum = view.getTableSum();
+        this.random = random;
+    }
+}
@@ -3,47 +3,122 @@ package com.example.proyecto3_.model.Cards;
 /**
  * Abstract class that provides the basic implementation for a playing card.
  * Implements the ICard interface and defines common attributes.
+ * The card is identified by a compact id (0-51) instead of its rank and suit strings.
  */
 public abstract class AbstractCard implements ICard {
 
-    protected String rank;
-    protected String suit;
-    protected boolean faceUp;
+    /** Ranks in id order. */
+    public static final String[] RANKS = {"2", "3", "4", "5", "6", "7", "8", "9", "10", "J", "Q", "K", "A"};
+
+    /** Suits in id order. */
+    public static final String[] SUITS = {"Hearts", "Diamonds", "Clubs", "Spades"};
+
+    /** Number of distinct ranks. */
+    public static final int RANK_COUNT = RANKS.length;
+
+    /** Number of distinct suits. */
+    public static final int SUIT_COUNT = SUITS.length;
+
+    /** Number of distinct cards (one standard deck). */
+    public static final int CARD_COUNT = RANK_COUNT * SUIT_COUNT;
+
+    protected final byte id;
 
     /**
      * Creates a new abstract card.
      * @param rank the rank (2-10, J, Q, K, A)
      * @param suit the suit (Hearts, Diamonds, Clubs, Spades)
+     * @throws IllegalArgumentException if the rank or suit is unknown
      */
     public AbstractCard(String rank, String suit) {
-        this.rank = rank;
-        this.suit = suit;
-        this.faceUp = false;
+        this(suitIndexOf(suit) * RANK_COUNT + rankIndexOf(rank));
+    }
+
+    /**
+     * Creates a new abstract card from its compact id.
+     * @param id the card id (0-51)
+     * @throws IllegalArgumentException if the id is out of range
+     */
+    protected AbstractCard(int id) {
+        if (id < 0 || id >= CARD_COUNT) {
+            throw new IllegalArgumentException("Card id must be between 0 and " + (CARD_COUNT - 1));
+        }
+        this.id = (byte) id;
+    }
+
+    /**
+     * Gets the rank index of a rank name.
+     * @param rank the rank (2-10, J, Q, K, A)
+     * @return the rank index (0-12)
+     * @throws IllegalArgumentException if the rank is unknown
+     */
+    public static int rankIndexOf(String rank) {
+        for (int i = 0; i < RANK_COUNT; i++) {
+            if (RANKS[i].equals(rank)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Unknown rank: " + rank);
+    }
+
+    /**
+     * Gets the suit index of a suit name.
+     * @param suit the suit (Hearts, Diamonds, Clubs, Spades)
+     * @return the suit index (0-3)
+     * @throws IllegalArgumentException if the suit is unknown
+     */
+    public static int suitIndexOf(String suit) {
+        for (int i = 0; i < SUIT_COUNT; i++) {
+            if (SUITS[i].equals(suit)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Unknown suit: " + suit);
+    }
+
+    @Override
+    public int getId() {
+        return id;
+    }
+
+    @Override
+    public int getRankIndex() {
+        return id % RANK_COUNT;
+    }
+
+    @Override
+    public int getSuitIndex() {
+        return id / RANK_COUNT;
     }
 
     @Override
     public String getRank() {
-        return rank;
+        return RANKS[getRankIndex()];
     }
 
     @Override
     public String getSuit() {
-        return suit;
+        return SUITS[getSuitIndex()];
     }
 
+    /**
+     * Two cards are equal when they have the same id.
+     * @param o the object to compare
+     * @return true if o is a card with the same id
+     */
     @Override
-    public void setFaceUp(boolean faceUp) {
-        this.faceUp = faceUp;
+    public boolean equals(Object o) {
+        return o instanceof ICard && ((ICard) o).getId() == id;
     }
 
     @Override
-    public boolean isFaceUp() {
-        return faceUp;
+    public int hashCode() {
+        return id;
     }
 
     @Override
     public String toString() {
-        return rank + " of " + suit;
+        return getRank() + " of " + getSuit();
     }
 
     /**
@@ -55,4 +130,3 @@ public abstract class AbstractCard implements ICard {
     @Override
     public abstract int getValue(int currentSum);
 }
-
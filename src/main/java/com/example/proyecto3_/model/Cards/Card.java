@@ -1,53 +1,153 @@
 package com.example.proyecto3_.model.Cards;
 
+import java.util.List;
+
 /**
  * Represents a standard playing card in the game.
+ * The 52 cards form a fixed, immutable flyweight universe shared by every deck,
+ * hand and table pile; use {@link #of(int)} to obtain the canonical instances.
  */
 public class Card extends AbstractCard {
 
+    /** Maximum table sum allowed by the rules. */
+    public static final int MAX_SUM = 50;
+
+    /** Rank index of the ace, the only card whose value depends on the table sum. */
+    public static final int ACE = RANK_COUNT - 1;
+
+    /** Number of table sums with a distinct entry in the value table (0-50). */
+    private static final int SUM_SLOTS = MAX_SUM + 1;
+
+    /**
+     * Card values indexed by rankIndex * SUM_SLOTS + clamped table sum.
+     * Only the ace row varies with the sum; every other row is constant.
+     */
+    private static final byte[] VALUE_TABLE = new byte[RANK_COUNT * SUM_SLOTS];
+
+    /** Canonical card instances indexed by id. */
+    private static final Card[] UNIVERSE = new Card[CARD_COUNT];
+
+    /** Read-only view of the canonical universe in id order. */
+    private static final List<Card> UNIVERSE_VIEW;
+
+    static {
+        for (int id = 0; id < CARD_COUNT; id++) {
+            UNIVERSE[id] = new Card(id);
+        }
+        UNIVERSE_VIEW = List.of(UNIVERSE);
+
+        byte[] rankValues = {2, 3, 4, 5, 6, 7, 8, 0, 10, -10, -10, -10, 0};
+        for (int rank = 0; rank < RANK_COUNT; rank++) {
+            for (int sum = 0; sum < SUM_SLOTS; sum++) {
+                // Ace counts 10 while that keeps the sum at or under 50, otherwise 1
+                byte value = rank == ACE ? (byte) (sum + 10 <= MAX_SUM ? 10 : 1) : rankValues[rank];
+                VALUE_TABLE[rank * SUM_SLOTS + sum] = value;
+            }
+        }
+    }
+
     /**
      * Creates a new card.
      * @param rank the rank (2-10, J, Q, K, A)
      * @param suit the suit (Hearts, Diamonds, Clubs, Spades)
+     * @throws IllegalArgumentException if the rank or suit is unknown
      */
     public Card(String rank, String suit) {
         super(rank, suit);
     }
 
     /**
-     * Gets the rank of the card.
-     * @return the rank (2-10, J, Q, K, A)
+     * Creates the canonical card for an id.
+     * @param id the card id (0-51)
+     */
+    private Card(int id) {
+        super(id);
+    }
+
+    /**
+     * Gets the canonical card for an id.
+     * @param id the card id (0-51)
+     * @return the shared card instance
+     * @throws ArrayIndexOutOfBoundsException if the id is out of range
+     */
+    public static Card of(int id) {
+        return UNIVERSE[id];
+    }
+
+    /**
+     * Gets the canonical card for a rank and suit.
+     * @param rank the rank (2-10, J, Q, K, A)
+     * @param suit the suit (Hearts, Diamonds, Clubs, Spades)
+     * @return the shared card instance
+     * @throws IllegalArgumentException if the rank or suit is unknown
+     */
+    public static Card of(String rank, String suit) {
+        return UNIVERSE[suitIndexOf(suit) * RANK_COUNT + rankIndexOf(rank)];
+    }
+
+    /**
+     * Gets the whole canonical universe in id order.
+     * @return unmodifiable list of the 52 shared cards
+     */
+    public static List<Card> universe() {
+        return UNIVERSE_VIEW;
+    }
+
+    /**
+     * Gets the value of a rank for a given table sum using the precomputed table.
+     * Sums outside 0-50 are clamped, which leaves every value unchanged.
+     * @param rankIndex the rank index (0-12)
+     * @param currentSum the current sum on the table
+     * @return the value of the rank
+     */
+    public static int valueOf(int rankIndex, int currentSum) {
+        int slot = currentSum < 0 ? 0 : Math.min(currentSum, MAX_SUM);
+        return VALUE_TABLE[rankIndex * SUM_SLOTS + slot];
+    }
+
+    /**
+     * Gets the compact identity of the card.
+     * @return the card id (0-51)
      */
     @Override
-    public String getRank() {
-        return super.getRank();
+    public int getId() {
+        return super.getId();
     }
 
     /**
-     * Gets the suit of the card.
-     * @return the suit (Hearts, Diamonds, Clubs, Spades)
+     * Gets the index of the card rank.
+     * @return the rank index (0-12)
      */
     @Override
-    public String getSuit() {
-        return super.getSuit();
+    public int getRankIndex() {
+        return super.getRankIndex();
     }
 
     /**
-     * Sets whether the card is face up.
-     * @param faceUp true if face up, false if face down
+     * Gets the index of the card suit.
+     * @return the suit index (0-3)
      */
     @Override
-    public void setFaceUp(boolean faceUp) {
-        super.setFaceUp(faceUp);
+    public int getSuitIndex() {
+        return super.getSuitIndex();
     }
 
     /**
-     * Checks if the card is face up.
-     * @return true if face up
+     * Gets the rank of the card.
+     * @return the rank (2-10, J, Q, K, A)
+     */
+    @Override
+    public String getRank() {
+        return super.getRank();
+    }
+
+    /**
+     * Gets the suit of the card.
+     * @return the suit (Hearts, Diamonds, Clubs, Spades)
      */
     @Override
-    public boolean isFaceUp() {
-        return super.isFaceUp();
+    public String getSuit() {
+        return super.getSuit();
     }
 
     /**
@@ -57,20 +157,7 @@ public class Card extends AbstractCard {
      */
     @Override
     public int getValue(int currentSum) {
-        switch (rank) {
-            case "2": case "3": case "4": case "5":
-            case "6": case "7": case "8": case "10":
-                return Integer.parseInt(rank);
-            case "9":
-                return 0;
-            case "J": case "Q": case "K":
-                return -10;
-            case "A":
-                // Choose 1 or 10 based on what keeps sum under 50
-                return (currentSum + 10 <= 50) ? 10 : 1;
-            default:
-                return 0;
-        }
+        return valueOf(getRankIndex(), currentSum);
     }
 
     /**
@@ -2,9 +2,29 @@ package com.example.proyecto3_.model.Cards;
 
 /**
  * Represents the base contract for all card types.
+ * Cards are immutable; whether a card is visible depends on the hand or pile holding it.
  */
 public interface ICard {
 
+    /**
+     * Gets the compact identity of the card.
+     * Encoded as suitIndex * 13 + rankIndex, in the range 0-51.
+     * @return the card id
+     */
+    int getId();
+
+    /**
+     * Gets the index of the card rank (0 = "2" ... 12 = "A").
+     * @return the rank index
+     */
+    int getRankIndex();
+
+    /**
+     * Gets the index of the card suit (0 = Hearts, 1 = Diamonds, 2 = Clubs, 3 = Spades).
+     * @return the suit index
+     */
+    int getSuitIndex();
+
     /**
      * Gets the rank of the card.
      * @return the rank (2-10, J, Q, K, A)
@@ -24,22 +44,9 @@ public interface ICard {
      */
     int getValue(int currentSum);
 
-    /**
-     * Sets whether the card is face up or face down.
-     * @param faceUp true if face up, false if face down
-     */
-    void setFaceUp(boolean faceUp);
-
-    /**
-     * Checks if the card is face up.
-     * @return true if the card is face up
-     */
-    boolean isFaceUp();
-
     /**
      * Returns a string representation of the card.
      * @return rank and suit as a string
      */
     String toString();
 }
-
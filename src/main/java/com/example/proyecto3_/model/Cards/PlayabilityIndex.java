@@ -0,0 +1,125 @@
+package com.example.proyecto3_.model.Cards;
+
+/**
+ * Single source of truth for the "never exceed 50" rule.
+ * Holds lookup tables indexed by table sum and rank with the legal flag, the
+ * card delta and the resulting sum, so every legality check is an array load.
+ */
+public final class PlayabilityIndex {
+
+    /** Lowest indexed table sum; one deck can never bring the table below it. */
+    public static final int MIN_INDEXED_SUM = -130;
+
+    /** Highest indexed table sum; above it nothing is playable. */
+    public static final int MAX_INDEXED_SUM = Card.MAX_SUM + 11;
+
+    private static final int SUM_SLOTS = MAX_INDEXED_SUM - MIN_INDEXED_SUM + 1;
+
+    private static final boolean[] LEGAL = new boolean[SUM_SLOTS * Card.RANK_COUNT];
+    private static final byte[] DELTA = new byte[SUM_SLOTS * Card.RANK_COUNT];
+    private static final short[] RESULT = new short[SUM_SLOTS * Card.RANK_COUNT];
+
+    /** Legal ranks per sum, one bit per rank index. */
+    private static final short[] LEGAL_RANKS = new short[SUM_SLOTS];
+
+    /** Legal cards per sum, one bit per card id. */
+    private static final long[] LEGAL_CARDS = new long[SUM_SLOTS];
+
+    static {
+        for (int slot = 0; slot < SUM_SLOTS; slot++) {
+            int sum = slot + MIN_INDEXED_SUM;
+            for (int rank = 0; rank < Card.RANK_COUNT; rank++) {
+                int delta = Card.valueOf(rank, sum);
+                int result = sum + delta;
+                int entry = slot * Card.RANK_COUNT + rank;
+                DELTA[entry] = (byte) delta;
+                RESULT[entry] = (short) result;
+                if (result <= Card.MAX_SUM) {
+                    LEGAL[entry] = true;
+                    LEGAL_RANKS[slot] |= (short) (1 << rank);
+                    for (int suit = 0; suit < Card.SUIT_COUNT; suit++) {
+                        LEGAL_CARDS[slot] |= 1L << (suit * Card.RANK_COUNT + rank);
+                    }
+                }
+            }
+        }
+    }
+
+    private PlayabilityIndex() {
+    }
+
+    /**
+     * Maps a table sum to its table slot.
+     * Sums below the indexed range behave like the lowest one (every card legal,
+     * constant deltas); sums above it behave like the highest one (nothing legal).
+     * @param sum the current sum on the table
+     * @return the slot index
+     */
+    private static int slot(int sum) {
+        if (sum < MIN_INDEXED_SUM) {
+            return 0;
+        }
+        return Math.min(sum, MAX_INDEXED_SUM) - MIN_INDEXED_SUM;
+    }
+
+    /**
+     * Checks if a rank can be played without exceeding 50.
+     * @param sum the current sum on the table
+     * @param rankIndex the rank index (0-12)
+     * @return true if the move is legal
+     */
+    public static boolean isLegal(int sum, int rankIndex) {
+        return LEGAL[slot(sum) * Card.RANK_COUNT + rankIndex];
+    }
+
+    /**
+     * Checks if a card can be played without exceeding 50.
+     * @param sum the current sum on the table
+     * @param card the card to play
+     * @return true if the move is legal
+     */
+    public static boolean isLegal(int sum, ICard card) {
+        return isLegal(sum, card.getRankIndex());
+    }
+
+    /**
+     * Gets how much a rank changes the table sum.
+     * @param sum the current sum on the table
+     * @param rankIndex the rank index (0-12)
+     * @return the card delta
+     */
+    public static int delta(int sum, int rankIndex) {
+        return DELTA[slot(sum) * Card.RANK_COUNT + rankIndex];
+    }
+
+    /**
+     * Gets the table sum after playing a rank.
+     * @param sum the current sum on the table
+     * @param rankIndex the rank index (0-12)
+     * @return the resulting table sum
+     */
+    public static int resultingSum(int sum, int rankIndex) {
+        if (sum < MIN_INDEXED_SUM) {
+            return sum + DELTA[rankIndex];
+        }
+        return RESULT[slot(sum) * Card.RANK_COUNT + rankIndex];
+    }
+
+    /**
+     * Gets the ranks that can be played at a table sum.
+     * @param sum the current sum on the table
+     * @return mask with one bit set per legal rank index
+     */
+    public static int legalRankMask(int sum) {
+        return LEGAL_RANKS[slot(sum)];
+    }
+
+    /**
+     * Gets the cards that can be played at a table sum.
+     * @param sum the current sum on the table
+     * @return mask with one bit set per legal card id
+     */
+    public static long legalCardMask(int sum) {
+        return LEGAL_CARDS[slot(sum)];
+    }
+}
@@ -2,69 +2,167 @@ package com.example.proyecto3_.model.Deck;
 
 import com.example.proyecto3_.model.Cards.Card;
 import java.util.*;
+import java.util.random.RandomGenerator;
 
 /**
  * Abstract class that provides the common implementation for decks.
  * Implements IDeck and defines the base structure and stack management.
+ * Cards are stored as ids in a primitive array used as a stack: index 0 is the
+ * bottom of the deck and index size - 1 is the top.
  */
 public abstract class AbstractDeck implements IDeck {
 
-    protected Stack<Card> cards;
+    protected byte[] cards;
+    protected int size;
+    protected final RandomGenerator random;
 
     /**
-     * Creates a new abstract deck.
+     * Creates a new abstract deck with an unseeded random generator.
      */
     public AbstractDeck() {
-        cards = new Stack<>();
+        this(new SplittableRandom());
     }
 
     /**
-     * Initializes the deck with 52 cards.
+     * Creates a new abstract deck that shuffles with the given generator.
+     * The generator is not shared-safe; give each thread its own (for example
+     * with {@link SplittableRandom#split()}).
+     * @param random the random generator used for shuffling
+     */
+    public AbstractDeck(RandomGenerator random) {
+        this(random, Card.CARD_COUNT);
+    }
+
+    /**
+     * Creates a new abstract deck with room for the given number of cards.
+     * @param random the random generator used for shuffling
+     * @param capacity number of cards the deck can hold before growing
+     */
+    public AbstractDeck(RandomGenerator random, int capacity) {
+        this.random = Objects.requireNonNull(random, "random");
+        cards = new byte[capacity];
+        size = 0;
+    }
+
+    /**
+     * Initializes the deck with its cards.
      * Must be implemented by subclasses.
      */
     protected abstract void initializeDeck();
 
+    /**
+     * Shuffles the deck in place using the Fisher-Yates algorithm.
+     */
     @Override
     public void shuffle() {
-        List<Card> tempList = new ArrayList<>(cards);
-        Collections.shuffle(tempList);
-        cards.clear();
-        cards.addAll(tempList);
+        for (int i = size - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            byte tmp = cards[i];
+            cards[i] = cards[j];
+            cards[j] = tmp;
+        }
     }
 
     @Override
     public Card drawCard() {
-        if (cards.isEmpty()) {
+        if (size == 0) {
             return null;
         }
-        return cards.pop();
+        return Card.of(cards[--size]);
     }
 
     @Override
     public void addCard(Card card) {
-        cards.push(card);
+        ensureCapacity(size + 1);
+        cards[size++] = (byte) card.getId();
     }
 
     @Override
     public void addCards(List<Card> cardsToAdd) {
-        for (Card card : cardsToAdd) {
-            cards.push(card);
+        int count = cardsToAdd.size();
+        ensureCapacity(size + count);
+        for (int i = 0; i < count; i++) {
+            cards[size + i] = (byte) cardsToAdd.get(i).getId();
         }
+        size += count;
+    }
+
+    /**
+     * Adds a run of card ids to the top of the deck with a single array copy.
+     * @param ids the source array of card ids
+     * @param from index of the first id to copy
+     * @param count number of ids to copy
+     */
+    public void addCards(byte[] ids, int from, int count) {
+        ensureCapacity(size + count);
+        System.arraycopy(ids, from, cards, size, count);
+        size += count;
     }
 
     @Override
     public boolean isEmpty() {
-        return cards.isEmpty();
+        return size == 0;
     }
 
     @Override
     public int size() {
-        return cards.size();
+        return size;
     }
 
     @Override
     public List<Card> getCards() {
-        return new ArrayList<>(cards);
+        List<Card> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(Card.of(cards[i]));
+        }
+        return list;
+    }
+
+    /**
+     * Moves every card of a table pile except the top one into this deck and shuffles.
+     * When the deck is empty the deck and pile simply swap buffers, so no card is
+     * copied and nothing is allocated; otherwise the pile is appended with one array copy.
+     * @param pile the table pile to recycle
+     * @return number of cards moved into the deck
+     */
+    public int recycleFrom(TablePile pile) {
+        int moved = pile.size - 1;
+        if (moved <= 0) {
+            return 0;
+        }
+
+        byte top = pile.cards[moved];
+        if (size == 0) {
+            byte[] emptyBuffer = cards;
+            cards = pile.cards;
+            size = moved;
+            pile.cards = emptyBuffer;
+        } else {
+            addCards(pile.cards, 0, moved);
+        }
+        pile.cards[0] = top;
+        pile.size = 1;
+
+        shuffle();
+        return moved;
+    }
+
+    /**
+     * Gets the random generator used for shuffling.
+     * @return the random generator
+     */
+    public RandomGenerator getRandom() {
+        return random;
+    }
+
+    /**
+     * Grows the backing array when it cannot hold the requested number of cards.
+     * @param capacity the number of cards that must fit
+     */
+    protected void ensureCapacity(int capacity) {
+        if (capacity > cards.length) {
+            cards = Arrays.copyOf(cards, Math.max(capacity, cards.length * 2));
+        }
     }
 
     /**
@@ -2,37 +2,88 @@ package com.example.proyecto3_.model.Deck;
 
 import com.example.proyecto3_.model.Cards.Card;
 import java.util.*;
+import java.util.random.RandomGenerator;
 
 /**
- * Represents a deck of cards using Stack (LIFO).
+ * Represents a deck of cards used as a stack (LIFO).
+ * A deck can also be a shoe made of several standard decks.
  */
 public class Deck extends AbstractDeck {
 
+    private final int numDecks;
+
     /**
      * Creates a new deck with 52 cards.
      */
     public Deck() {
         super();
+        this.numDecks = 1;
+        initializeDeck();
+        shuffle();
+    }
+
+    /**
+     * Creates a new deck with 52 cards shuffled by the given generator.
+     * @param random the random generator used for shuffling
+     */
+    public Deck(RandomGenerator random) {
+        this(1, random);
+    }
+
+    /**
+     * Creates a new deck with 52 cards whose shuffles are fully determined by a seed.
+     * @param seed the seed for the deck's random generator
+     */
+    public Deck(long seed) {
+        this(new SplittableRandom(seed));
+    }
+
+    /**
+     * Creates a shoe of several 52-card decks shuffled together.
+     * @param numDecks number of standard decks in the shoe
+     * @param random the random generator used for shuffling
+     * @throws IllegalArgumentException if numDecks is less than 1
+     */
+    public Deck(int numDecks, RandomGenerator random) {
+        super(random, checkDecks(numDecks) * Card.CARD_COUNT);
+        this.numDecks = numDecks;
         initializeDeck();
         shuffle();
     }
 
     /**
-     * Initializes the deck with all 52 cards.
+     * Validates the number of decks in a shoe.
+     * @param numDecks number of standard decks
+     * @return the same number, if valid
+     * @throws IllegalArgumentException if numDecks is less than 1
+     */
+    private static int checkDecks(int numDecks) {
+        if (numDecks < 1) {
+            throw new IllegalArgumentException("A shoe needs at least one deck");
+        }
+        return numDecks;
+    }
+
+    /**
+     * Gets the number of standard decks in this shoe.
+     * @return number of decks
+     */
+    public int getNumDecks() {
+        return numDecks;
+    }
+
+    /**
+     * Initializes the deck with all 52 cards of every deck in the shoe.
+     * Uses the shared card universe instead of creating new cards.
      */
     @Override
     protected void initializeDeck() {
-        String[] ranks = {"2", "3", "4", "5", "6", "7", "8", "9", "10", "J", "Q", "K", "A"};
-        String[] suits = {"Hearts", "Diamonds", "Clubs", "Spades"};
-
-        List<Card> tempCards = new ArrayList<>();
-        for (String suit : suits) {
-            for (String rank : ranks) {
-                tempCards.add(new Card(rank, suit));
+        ensureCapacity(numDecks * Card.CARD_COUNT);
+        for (int d = 0; d < numDecks; d++) {
+            for (Card card : Card.universe()) {
+                cards[size++] = (byte) card.getId();
             }
         }
-
-        cards.addAll(tempCards);
     }
 
     /**
@@ -44,7 +95,7 @@ public class Deck extends AbstractDeck {
     }
 
     /**
-     * Draws a card from the top of the deck (Stack pop).
+     * Draws a card from the top of the deck.
      * @return the drawn card, or null if deck is empty
      */
     @Override
@@ -14,7 +14,7 @@ public interface IDeck {
     void shuffle();
 
     /**
-     * Draws a card from the top of the deck (Stack pop).
+     * Draws a card from the top of the deck.
      * @return the drawn card, or null if deck is empty
      */
     Card drawCard();
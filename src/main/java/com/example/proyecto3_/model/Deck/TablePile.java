@@ -0,0 +1,92 @@
+package com.example.proyecto3_.model.Deck;
+
+import com.example.proyecto3_.model.Cards.Card;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Represents the face-up pile of cards played on the table.
+ * Cards are stored as ids in a primitive array with the top card last. The pile
+ * and a deck can swap buffers, which lets {@link AbstractDeck#recycleFrom(TablePile)}
+ * turn the pile back into a deck without copying or allocating.
+ */
+public class TablePile {
+
+    byte[] cards;
+    int size;
+
+    /**
+     * Creates an empty pile able to hold one full deck.
+     */
+    public TablePile() {
+        this(Card.CARD_COUNT);
+    }
+
+    /**
+     * Creates an empty pile with the given capacity.
+     * @param capacity number of cards the pile can hold before growing
+     */
+    public TablePile(int capacity) {
+        this.cards = new byte[capacity];
+        this.size = 0;
+    }
+
+    /**
+     * Puts a card on top of the pile.
+     * @param card the card to add
+     */
+    public void addCard(Card card) {
+        if (size == cards.length) {
+            cards = Arrays.copyOf(cards, Math.max(1, cards.length * 2));
+        }
+        cards[size++] = (byte) card.getId();
+    }
+
+    /**
+     * Gets the card on top of the pile.
+     * @return the top card, or null if the pile is empty
+     */
+    public Card getTopCard() {
+        if (size == 0) {
+            return null;
+        }
+        return Card.of(cards[size - 1]);
+    }
+
+    /**
+     * Checks if the pile is empty.
+     * @return true if empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Gets the number of cards in the pile.
+     * @return number of cards on the table
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if the cards in the pile are shown face up.
+     * @return always true, the table pile is face up
+     */
+    public boolean isFaceUp() {
+        return true;
+    }
+
+    /**
+     * Gets the cards in the pile, bottom first.
+     * @return list of cards
+     */
+    public List<Card> getCards() {
+        List<Card> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(Card.of(cards[i]));
+        }
+        return list;
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.proyecto3_.model.Game;
+
+import com.example.proyecto3_.model.Cards.Card;
+
+/**
+ * Keeps the rank composition of the deck and of the table up to date as
+ * cards move, so draw probabilities are a division instead of a deck scan.
+ * GameModel reports every move; each report is O(1), except a recycle, which
+ * touches one counter per rank. Only GameModel sees the tracker; everyone
+ * else reads the counts through GameView.
+ */
+final class CardTracker {
+
+    private final int[] deckCounts = new int[Card.RANK_COUNT];
+    private final int[] tableCounts = new int[Card.RANK_COUNT];
+    private int deckSize;
+
+    /**
+     * Creates a tracker for a full, unshuffled shoe.
+     * @param numDecks number of standard decks in the shoe
+     */
+    CardTracker(int numDecks) {
+        int copiesPerRank = numDecks * Card.SUIT_COUNT;
+        for (int r = 0; r < Card.RANK_COUNT; r++) {
+            deckCounts[r] = copiesPerRank;
+        }
+        this.deckSize = numDecks * Card.CARD_COUNT;
+    }
+
+    /**
+     * Records a card taken from the top of the deck.
+     * @param card the drawn card
+     */
+    void onDraw(Card card) {
+        deckCounts[card.getRankIndex()]--;
+        deckSize--;
+    }
+
+    /**
+     * Records a card put on the table.
+     * @param card the played card
+     */
+    void onPlay(Card card) {
+        tableCounts[card.getRankIndex()]++;
+    }
+
+    /**
+     * Records a card put back into the deck, as when a player is eliminated.
+     * @param card the returned card
+     */
+    void onReturnToDeck(Card card) {
+        deckCounts[card.getRankIndex()]++;
+        deckSize++;
+    }
+
+    /**
+     * Records the table being shuffled back into the deck, all but the top card.
+     * @param topCard the card left on the table
+     */
+    void onRecycle(Card topCard) {
+        for (int r = 0; r < Card.RANK_COUNT; r++) {
+            deckCounts[r] += tableCounts[r];
+            deckSize += tableCounts[r];
+            tableCounts[r] = 0;
+        }
+        int top = topCard.getRankIndex();
+        deckCounts[top]--;
+        deckSize--;
+        tableCounts[top] = 1;
+    }
+
+    /**
+     * Gets how many cards of a rank are left in the deck.
+     * @param rankIndex the rank index (0-12)
+     * @return cards of that rank in the deck
+     */
+    int getDeckCount(int rankIndex) {
+        return deckCounts[rankIndex];
+    }
+
+    /**
+     * Gets how many cards of a rank are on the table.
+     * @param rankIndex the rank index (0-12)
+     * @return cards of that rank on the table, top card included
+     */
+    int getTableCount(int rankIndex) {
+        return tableCounts[rankIndex];
+    }
+
+    /**
+     * Gets the number of cards in the deck.
+     * @return deck size
+     */
+    int getDeckSize() {
+        return deckSize;
+    }
+
+    /**
+     * Gets the chance that the next card drawn from the deck has a rank.
+     * @param rankIndex the rank index (0-12)
+     * @return probability between 0 and 1, or 0 if the deck is empty
+     */
+    double getDrawProbability(int rankIndex) {
+        return deckSize == 0 ? 0.0 : (double) deckCounts[rankIndex] / deckSize;
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.proyecto3_.model.Game;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Kind of threads that run game sessions' commands.
+ * VIRTUAL starts one virtual thread per task, so a host with thousands of
+ * tables only needs a handful of carrier threads. Virtual threads need Java
+ * 21; the project builds for Java 17, so they are looked up reflectively and
+ * VIRTUAL falls back to PLATFORM on older runtimes.
+ */
+public enum ExecutionMode {
+
+    /** A fixed pool of daemon platform threads. */
+    PLATFORM,
+
+    /** One virtual thread per task, when the runtime has them. */
+    VIRTUAL;
+
+    /** System property that selects the mode of the default manager ("platform" or "virtual"). */
+    public static final String PROPERTY = "proyecto3.executionMode";
+
+    // prefix -> Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(prefix, 1).factory()), or null before Java 21
+    private static final MethodHandle VIRTUAL_EXECUTOR = findVirtualExecutor();
+
+    /**
+     * Looks up the virtual thread builder and the thread-per-task executor reflectively.
+     * @return a handle taking a name prefix and returning an ExecutorService, or null if unsupported
+     */
+    private static MethodHandle findVirtualExecutor() {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            Class<?> builder = Class.forName("java.lang.Thread$Builder");
+            Class<?> ofVirtual = Class.forName("java.lang.Thread$Builder$OfVirtual");
+            MethodHandle create = lookup.findStatic(Thread.class, "ofVirtual", MethodType.methodType(ofVirtual));
+            MethodHandle name = lookup.findVirtual(builder, "name", MethodType.methodType(builder, String.class, long.class));
+            MethodHandle factory = lookup.findVirtual(builder, "factory", MethodType.methodType(ThreadFactory.class));
+            MethodHandle perTask = lookup.findStatic(Executors.class, "newThreadPerTaskExecutor",
+                    MethodType.methodType(ExecutorService.class, ThreadFactory.class));
+            // (builder, prefix) -> builder.name(prefix, 1), then the builder comes from ofVirtual()
+            MethodHandle named = MethodHandles.insertArguments(name, 2, 1L);
+            named = MethodHandles.collectArguments(named, 0, create.asType(MethodType.methodType(builder)));
+            MethodHandle executor = MethodHandles.filterReturnValue(MethodHandles.filterReturnValue(named, factory), perTask);
+            // Java 19 and 20 have the methods as a preview that throws unless enabled
+            ((ExecutorService) executor.invoke("probe-")).shutdown();
+            return executor;
+        } catch (Throwable e) {
+            return null;
+        }
+    }
+
+    /**
+     * Checks if the running JVM has virtual threads.
+     * @return true on Java 21 or later
+     */
+    public static boolean isVirtualSupported() {
+        return VIRTUAL_EXECUTOR != null;
+    }
+
+    /**
+     * Gets the mode used when none is chosen: the PROPERTY system property if
+     * it names a mode, otherwise VIRTUAL when supported.
+     * @return the default mode, already resolved for this JVM
+     */
+    public static ExecutionMode fromSystemProperty() {
+        String value = System.getProperty(PROPERTY);
+        ExecutionMode mode = VIRTUAL;
+        if (value != null) {
+            try {
+                mode = valueOf(value.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                System.err.println("Modo de ejecución desconocido: " + value);
+            }
+        }
+        return mode.resolve();
+    }
+
+    /**
+     * Gets the mode that will actually run: VIRTUAL becomes PLATFORM when
+     * the JVM has no virtual threads.
+     * @return the effective mode
+     */
+    public ExecutionMode resolve() {
+        return this == VIRTUAL && !isVirtualSupported() ? PLATFORM : this;
+    }
+
+    /**
+     * Creates an executor of this mode.
+     * @param name prefix of the thread names
+     * @param platformThreads pool size when the mode resolves to PLATFORM
+     * @return the executor
+     */
+    public ExecutorService newExecutor(String name, int platformThreads) {
+        if (resolve() == VIRTUAL) {
+            return newVirtualExecutor(name);
+        }
+        AtomicInteger count = new AtomicInteger();
+        return Executors.newFixedThreadPool(platformThreads, r -> {
+            Thread t = new Thread(r, name + count.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * Creates an executor that starts one numbered virtual thread per task.
+     * @param name prefix of the thread names
+     * @return the executor
+     */
+    private static ExecutorService newVirtualExecutor(String name) {
+        try {
+            return (ExecutorService) VIRTUAL_EXECUTOR.invoke(name);
+        } catch (Throwable e) {
+            throw new IllegalStateException("Could not create virtual threads", e);
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.example.proyecto3_.model.Game;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Single-writer event loop for one game. Commands from any thread go into a
+ * lock-free multi-producer mailbox and run one at a time, in arrival order,
+ * on a borrowed carrier thread; only that thread touches the game while a
+ * command runs, so nothing needs a lock. The actor holds a carrier thread only
+ * while it has mail, so many actors can share a small pool.
+ *
+ * <p>Single writer does not mean non-blocking: {@link #callAndWait} parks its
+ * caller until the command has run, behind everything queued before it. It
+ * is meant for outside callers that can afford the wait. A command running on
+ * a carrier must not wait for another actor: on a bounded pool it would hold
+ * a carrier thread, and two actors waiting for each other would deadlock. So
+ * callAndWait fails fast there; commands use {@link #ask} or
+ * {@link #execute} to talk to other actors.
+ */
+public class GameActor implements Executor {
+
+    /** Commands run per turn on the carrier before it is handed back to other actors. */
+    public static final int MAX_BATCH = 64;
+
+    private final Executor carrier;
+    private final ConcurrentLinkedQueue<Runnable> mailbox = new ConcurrentLinkedQueue<>();
+
+    // True while a drain is queued on or running on the carrier
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    // Thread draining the mailbox right now, or null
+    private volatile Thread owner;
+
+    // Actor whose mailbox the current thread is draining, if it is a carrier
+    private static final ThreadLocal<GameActor> DRAINING = new ThreadLocal<>();
+
+    /**
+     * Creates an actor.
+     * @param carrier the pool whose threads run the mailbox
+     */
+    public GameActor(Executor carrier) {
+        this.carrier = carrier;
+    }
+
+    /**
+     * Queues a command without waiting for it. Errors are logged, since no
+     * caller is waiting for them.
+     * @param command the command to run on the owner thread
+     * @throws RejectedExecutionException if the carrier pool is shut down
+     */
+    @Override
+    public void execute(Runnable command) {
+        mailbox.offer(command);
+        schedule();
+    }
+
+    /**
+     * Queues a command and returns its result as a future.
+     * @param command the command to run on the owner thread
+     * @param <T> result type
+     * @return future completed with the command's result or exception
+     * @throws RejectedExecutionException if the carrier pool is shut down
+     */
+    public <T> CompletableFuture<T> ask(Supplier<T> command) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        execute(() -> {
+            try {
+                result.complete(command.get());
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Runs a command on the owner thread and waits for its result. A command
+     * that is already on the owner thread runs inline, so commands can call
+     * each other without deadlocking on their own mailbox. The caller waits
+     * for every command queued before this one, so UI threads should read
+     * published snapshots instead.
+     * @param command the command to run
+     * @param <T> result type
+     * @return the command's result
+     * @throws IllegalStateException if called from a command of another actor
+     * @throws RuntimeException whatever the command threw
+     */
+    public <T> T callAndWait(Supplier<T> command) {
+        if (isOwnerThread()) {
+            return command.get();
+        }
+        if (DRAINING.get() != null) {
+            throw new IllegalStateException("A game command cannot wait for another game; use ask()");
+        }
+        try {
+            return ask(command).join();
+        } catch (CompletionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    /**
+     * Runs a command on the owner thread and waits for it to finish.
+     * @param command the command to run
+     * @throws RuntimeException whatever the command threw
+     */
+    public void runAndWait(Runnable command) {
+        callAndWait(() -> {
+            command.run();
+            return null;
+        });
+    }
+
+    /**
+     * Checks if the calling thread is the one draining this mailbox.
+     * @return true inside a command of this actor
+     */
+    public boolean isOwnerThread() {
+        return owner == Thread.currentThread();
+    }
+
+    /**
+     * Hands a drain to the carrier unless one is already queued or running.
+     */
+    private void schedule() {
+        if (scheduled.compareAndSet(false, true)) {
+            try {
+                carrier.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                scheduled.set(false);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Runs up to MAX_BATCH commands, then gives the carrier thread back and
+     * queues another drain if mail is left.
+     */
+    private void drain() {
+        owner = Thread.currentThread();
+        DRAINING.set(this);
+        try {
+            for (int i = 0; i < MAX_BATCH; i++) {
+                Runnable command = mailbox.poll();
+                if (command == null) {
+                    break;
+                }
+                try {
+                    command.run();
+                } catch (RuntimeException e) {
+                    System.err.println("Error en un comando de la partida: " + e.getMessage());
+                }
+            }
+        } finally {
+            DRAINING.remove();
+            owner = null;
+            scheduled.set(false);
+        }
+        // A producer that saw scheduled == true just before the reset relies on this check
+        if (!mailbox.isEmpty()) {
+            schedule();
+        }
+    }
+
+    /**
+     * Gets the exception a command threw from a failed join.
+     * @param e the wrapper thrown by join()
+     * @return the command's runtime exception, or e itself for other causes
+     */
+    private static RuntimeException unwrap(CompletionException e) {
+        return e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+    }
+}
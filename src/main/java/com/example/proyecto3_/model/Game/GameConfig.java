@@ -1,40 +1,40 @@
 package com.example.proyecto3_.model.Game;
 
+import com.example.proyecto3_.model.Bot.BotStrategy;
 import com.example.proyecto3_.model.Cards.Card;
+import com.example.proyecto3_.model.Game.GameSession.MachineTurnResult;
+import com.example.proyecto3_.model.Game.GameSession.TurnEvent;
 import com.example.proyecto3_.model.Player.Player;
-import com.example.proyecto3_.model.Exceptions.*;
 
-import java.util.concurrent.*;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
 
 /**
- * Singleton class to store game configuration and handle all game logic.
- * Provides thread-safe operations for managing game state and player actions.
+ * Singleton class to store the desktop game's configuration.
+ * Game logic lives in a {@link GameSession}; this class plays on the default
+ * session of its {@link GameSessionManager}, so the UI keeps a single entry
+ * point while the same process can host other tables through the manager.
  */
 public class GameConfig {
 
+    /** Id of the session the desktop game plays on. */
+    public static final String DEFAULT_SESSION_ID = "default";
+
     private static class Holder {
         private static final GameConfig INSTANCE = new GameConfig();
     }
 
     private int numBots;
-    private GameModel game;
-    private volatile boolean humanHasPlayedCard = false;
-    private volatile boolean humanHasDrawnCard = false;
-
-    private final ExecutorService gameLogicExecutor = Executors.newSingleThreadExecutor(r -> {
-        Thread t = new Thread(r, "GameLogicThread");
-        t.setDaemon(true);
-        return t;
-    });
+    private Long seed;
+    private volatile BotStrategy botStrategy = BotStrategy.fromSystemProperty();
+    private volatile PacingPolicy pacingPolicy = PacingPolicy.DEFAULT;
 
-    private final ExecutorService validationExecutor = Executors.newCachedThreadPool(r -> {
-        Thread t = new Thread(r, "ValidationThread-" + System.nanoTime());
-        t.setDaemon(true);
-        return t;
-    });
-
-    private final ReentrantLock gameLock = new ReentrantLock();
+    private final GameSessionManager sessionManager = new GameSessionManager();
+    private final GameSession session = sessionManager.createSession(DEFAULT_SESSION_ID);
 
     /**
      * Creates a new GameConfig instance with default values.
@@ -72,302 +72,290 @@ public class GameConfig {
         return numBots;
     }
 
-    // ==================== GAME LOGIC METHODS ====================
+    /**
+     * Sets a fixed seed for the next games, so they can be replayed exactly.
+     * @param seed the seed to use, or null to pick a fresh seed for every game
+     */
+    public void setSeed(Long seed) {
+        this.seed = seed;
+    }
 
     /**
-     * Initializes a new game with the configured number of bots.
-     * Thread-safe operation that creates and starts a new game.
+     * Gets the fixed seed configured for new games.
+     * @return the configured seed, or null if every game gets a fresh seed
      */
-    public void initializeGame() {
-        gameLock.lock();
-        try {
-            game = new GameModel(numBots);
-            game.start();
-            resetTurnFlags();
-        } finally {
-            gameLock.unlock();
-        }
+    public Long getSeed() {
+        return seed;
     }
 
     /**
-     * Resets turn flags for human player.
-     * Called at the start of each turn.
+     * Sets the strategy machine players use to choose their cards.
+     * @param botStrategy the strategy for every machine player
      */
-    private void resetTurnFlags() {
-        humanHasPlayedCard = false;
-        humanHasDrawnCard = false;
+    public void setBotStrategy(BotStrategy botStrategy) {
+        this.botStrategy = Objects.requireNonNull(botStrategy, "botStrategy");
     }
 
     /**
-     * Attempts to play a card for the current player.
-     * Thread-safe operation with validation checks.
-     * @param card the card to play
-     * @return true if card was played successfully, false otherwise
+     * Gets the strategy machine players use to choose their cards.
+     * @return the configured strategy; at startup, the one named by the
+     *         proyecto3.botStrategy system property, first legal card if unset
      */
-    public boolean playCard(Card card) {
-        gameLock.lock();
-        try {
-            Player currentPlayer = game.getCurrentPlayer();
+    public BotStrategy getBotStrategy() {
+        return botStrategy;
+    }
 
-            // Prevent playing if it's not allowed
-            if (currentPlayer.isMachine() || humanHasPlayedCard) {
-                return false;
-            }
+    /**
+     * Turns the console log of the desktop game on or off.
+     * @param verbose true to print seeds and game events, false to stay silent
+     * @see GameSession#setVerbose(boolean)
+     */
+    public void setVerbose(boolean verbose) {
+        session.setVerbose(verbose);
+    }
 
-            game.playCard(card);
+    /**
+     * Sets how machine turns are paced on screen.
+     * @param pacingPolicy the delays to use, e.g. PacingPolicy.TURBO for no delays
+     */
+    public void setPacingPolicy(PacingPolicy pacingPolicy) {
+        this.pacingPolicy = Objects.requireNonNull(pacingPolicy, "pacingPolicy");
+    }
 
-            if (!currentPlayer.isMachine()) {
-                humanHasPlayedCard = true;
-            }
+    /**
+     * Gets how machine turns are paced on screen.
+     * @return the configured pacing (PacingPolicy.DEFAULT unless changed)
+     */
+    public PacingPolicy getPacingPolicy() {
+        return pacingPolicy;
+    }
+
+    /**
+     * Gets the manager that owns the default session.
+     * @return the session manager
+     */
+    public GameSessionManager getSessionManager() {
+        return sessionManager;
+    }
+
+    /**
+     * Gets the session the desktop game plays on.
+     * @return the default session
+     */
+    public GameSession getSession() {
+        return session;
+    }
 
-            return true;
+    // ==================== GAME LOGIC METHODS ====================
 
-        } catch (InvalidMoveException e) {
-            System.err.println("Movimiento inválido: " + e.getMessage());
-            return false;
-        } finally {
-            gameLock.unlock();
+    /**
+     * Initializes a new game with the configured number of bots.
+     * Thread-safe operation that creates and starts a new game.
+     * While the session is verbose, the seed of every game is logged so it can
+     * be replayed with {@link #setSeed(Long)}.
+     */
+    public void initializeGame() {
+        long gameSeed = seed != null ? seed : new SplittableRandom().nextLong();
+        if (session.isVerbose()) {
+            System.out.println("Semilla de la partida: " + gameSeed);
         }
+        session.start(numBots, gameSeed);
+    }
+
+    /**
+     * Attempts to play a card for the current player.
+     * @param card the card to play
+     * @return true if card was played successfully, false otherwise
+     * @see GameSession#playCard(Card)
+     */
+    public boolean playCard(Card card) {
+        return session.playCard(card);
+    }
+
+    /**
+     * Attempts to play a card for the current player without waiting.
+     * @param card the card to play
+     * @return future with true if the card was played
+     * @see GameSession#playCardAsync(Card)
+     */
+    public CompletableFuture<Boolean> playCardAsync(Card card) {
+        return session.playCardAsync(card);
     }
 
     /**
      * Attempts to draw a card for the current player.
-     * Thread-safe operation that handles deck recycling if needed.
      * @return true if card was drawn successfully, false otherwise
+     * @see GameSession#drawCard()
      */
     public boolean drawCard() {
-        gameLock.lock();
-        try {
-            Player current = game.getCurrentPlayer();
-
-            // Prevent drawing if conditions aren't met
-            if (current.isMachine() || !humanHasPlayedCard || humanHasDrawnCard) {
-                return false;
-            }
-
-            // Check if deck is empty and recycle if needed
-            checkAndRecycleDeck();
-
-            game.drawCard();
-            humanHasDrawnCard = true;
-
-            return true;
-
-        } catch (DeckEmptyException e) {
-            System.err.println("Error al robar carta: " + e.getMessage());
-            // Still count as drawn to allow turn progression
-            humanHasDrawnCard = true;
-            return true;
-        } finally {
-            gameLock.unlock();
-        }
+        return session.drawCard();
     }
 
     /**
-     * Checks if deck is empty and recycles automatically.
-     * Called before drawing cards to ensure deck availability.
+     * Attempts to draw a card for the current player without waiting.
+     * @return future with true if the card was drawn
+     * @see GameSession#drawCardAsync()
      */
-    private void checkAndRecycleDeck() {
-        if (game.isDeckEmpty()) {
-            System.out.println("⚠️ Mazo vacío. Reciclando automáticamente...");
-            // GameModel already handles recycling in drawCard, but we ensure it happens
-        }
+    public CompletableFuture<Boolean> drawCardAsync() {
+        return session.drawCardAsync();
     }
 
     /**
      * Completes the current turn and moves to next player.
-     * Thread-safe operation that resets flags and advances turn.
+     * @see GameSession#completeTurn()
      */
     public void completeTurn() {
-        gameLock.lock();
-        try {
-            resetTurnFlags();
-            game.nextTurn();
-        } finally {
-            gameLock.unlock();
-        }
+        session.completeTurn();
     }
 
     /**
-     * Processes machine player's turn asynchronously.
-     * Executes card selection, playing, and drawing in a separate thread.
-     * @return Future with MachineTurnResult containing the outcome
+     * Completes the current turn without waiting.
+     * @return future completed once the next player is to move
+     * @see GameSession#completeTurnAsync()
      */
-    public Future<MachineTurnResult> processMachineTurnAsync() {
-        return gameLogicExecutor.submit(() -> {
-            gameLock.lock();
-            try {
-                Player machine = game.getCurrentPlayer();
-
-                if (!machine.isMachine()) {
-                    return new MachineTurnResult(false, "Not a machine player", null);
-                }
-
-                // Check if machine can play
-                if (!machine.canPlay(game.getTableSum())) {
-                    return new MachineTurnResult(false, "Cannot play any card", null);
-                }
+    public CompletableFuture<Void> completeTurnAsync() {
+        return session.completeTurnAsync();
+    }
 
-                // Select and play card
-                Card selectedCard = machine.selectCard(game.getTableSum());
-                if (selectedCard == null) {
-                    return new MachineTurnResult(false, "No valid card selected", null);
-                }
+    /**
+     * Processes machine player's turn asynchronously with the configured strategy.
+     * @return Future with MachineTurnResult containing the outcome
+     */
+    public CompletableFuture<MachineTurnResult> processMachineTurnAsync() {
+        return session.processMachineTurnAsync(botStrategy);
+    }
 
-                try {
-                    game.playCard(selectedCard);
+    /**
+     * Processes machine player's turn asynchronously with a given strategy.
+     * @param strategy the strategy that chooses the card
+     * @return Future with MachineTurnResult containing the outcome
+     */
+    public CompletableFuture<MachineTurnResult> processMachineTurnAsync(BotStrategy strategy) {
+        return session.processMachineTurnAsync(strategy);
+    }
 
-                    // Check if deck is empty and recycle automatically before drawing
-                    checkAndRecycleDeck();
+    /**
+     * Processes machine player's turn synchronously with the configured strategy.
+     * @return MachineTurnResult with the outcome
+     */
+    public MachineTurnResult processMachineTurn() {
+        return session.processMachineTurn(botStrategy);
+    }
 
-                    // Try to draw a card
-                    try {
-                        game.drawCard();
-                    } catch (DeckEmptyException e) {
-                        System.err.println("Bot no pudo robar: " + e.getMessage());
-                    }
+    /**
+     * Processes machine player's turn synchronously with a given strategy.
+     * @param strategy the strategy that chooses the card
+     * @return MachineTurnResult with the outcome
+     */
+    public MachineTurnResult processMachineTurn(BotStrategy strategy) {
+        return session.processMachineTurn(strategy);
+    }
 
-                    return new MachineTurnResult(true, "Turn completed", selectedCard);
+    /**
+     * Plays consecutive machine turns with the configured strategy in one critical section.
+     * @param maxTurns largest number of turns to play
+     * @return what happened in each turn, in order
+     * @see GameSession#runMachineTurns(BotStrategy, int)
+     */
+    public List<TurnEvent> runMachineTurns(int maxTurns) {
+        return session.runMachineTurns(botStrategy, maxTurns);
+    }
 
-                } catch (InvalidMoveException e) {
-                    return new MachineTurnResult(false, "Invalid move: " + e.getMessage(), null);
-                }
-            } finally {
-                gameLock.unlock();
-            }
-        });
+    /**
+     * Plays consecutive machine turns in one critical section.
+     * @param strategy the strategy that chooses the cards
+     * @param maxTurns largest number of turns to play
+     * @return what happened in each turn, in order
+     * @see GameSession#runMachineTurns(BotStrategy, int)
+     */
+    public List<TurnEvent> runMachineTurns(BotStrategy strategy, int maxTurns) {
+        return session.runMachineTurns(strategy, maxTurns);
     }
 
     /**
-     * Processes machine player's turn synchronously.
-     * Executes card selection, playing, and drawing in current thread.
-     * @return MachineTurnResult with the outcome
+     * Plays consecutive machine turns without waiting for them.
+     * @param strategy the strategy that chooses the cards
+     * @param maxTurns largest number of turns to play
+     * @return future with what happened in each turn, in order
      */
-    public MachineTurnResult processMachineTurn() {
-        gameLock.lock();
-        try {
-            Player machine = game.getCurrentPlayer();
-
-            if (!machine.isMachine()) {
-                return new MachineTurnResult(false, "Not a machine player", null);
-            }
-
-            // Check if machine can play
-            if (!machine.canPlay(game.getTableSum())) {
-                return new MachineTurnResult(false, "Cannot play any card", null);
-            }
-
-            // Select and play card
-            Card selectedCard = machine.selectCard(game.getTableSum());
-            if (selectedCard == null) {
-                return new MachineTurnResult(false, "No valid card selected", null);
-            }
-
-            try {
-                game.playCard(selectedCard);
-
-                // Check if deck is empty and recycle automatically before drawing
-                checkAndRecycleDeck();
-
-                // Try to draw a card
-                try {
-                    game.drawCard();
-                } catch (DeckEmptyException e) {
-                    System.err.println("Bot no pudo robar: " + e.getMessage());
-                }
-
-                return new MachineTurnResult(true, "Turn completed", selectedCard);
-
-            } catch (InvalidMoveException e) {
-                return new MachineTurnResult(false, "Invalid move: " + e.getMessage(), null);
-            }
-        } finally {
-            gameLock.unlock();
-        }
+    public CompletableFuture<List<TurnEvent>> runMachineTurnsAsync(BotStrategy strategy, int maxTurns) {
+        return session.runMachineTurnsAsync(strategy, maxTurns);
     }
 
     /**
      * Validates if a move is valid asynchronously.
-     * Useful for AI planning and move validation without blocking.
      * @param card the card to validate
      * @return Future containing true if move is valid, false otherwise
      */
     public Future<Boolean> validateMoveAsync(Card card) {
-        return validationExecutor.submit(() -> {
-            gameLock.lock();
-            try {
-                int tableSum = game.getTableSum();
-                int cardValue = card.getValue(tableSum);
-                return (tableSum + cardValue) <= 50 && (tableSum + cardValue) >= 0;
-            } finally {
-                gameLock.unlock();
-            }
-        });
+        return session.validateMoveAsync(card);
+    }
+
+    /**
+     * Finds the cards the player at a seat could play right now, in one pass.
+     * @param seat the player's seat
+     * @return hand positions of the playable cards
+     * @see GameSession#validateHand(int)
+     */
+    public BitSet validateHand(int seat) {
+        return session.validateHand(seat);
+    }
+
+    /**
+     * Finds the cards the player at a seat could play right now, asynchronously.
+     * @param seat the player's seat
+     * @return future with the hand positions of the playable cards
+     */
+    public CompletableFuture<BitSet> validateHandAsync(int seat) {
+        return session.validateHandAsync(seat);
     }
 
     /**
      * Eliminates the current player.
-     * Thread-safe operation that removes player and returns cards to deck.
      * @return name of eliminated player
      */
     public String eliminateCurrentPlayer() {
-        gameLock.lock();
-        try {
-            String playerName = game.getCurrentPlayer().getName();
-            game.eliminateCurrentPlayer();
-
-            resetTurnFlags();
-
-            return playerName;
+        return session.eliminateCurrentPlayer();
+    }
 
-        } catch (NoValidCardException e) {
-            resetTurnFlags();
-            return e.getMessage();
-        } finally {
-            gameLock.unlock();
-        }
+    /**
+     * Eliminates the current player without waiting.
+     * @return future with the name of the eliminated player
+     */
+    public CompletableFuture<String> eliminateCurrentPlayerAsync() {
+        return session.eliminateCurrentPlayerAsync();
     }
 
     /**
      * Checks if current player can make any valid move.
-     * Thread-safe operation.
      * @return true if player can play, false otherwise
      */
     public boolean canCurrentPlayerPlay() {
-        gameLock.lock();
-        try {
-            return game.getCurrentPlayer().canPlay(game.getTableSum());
-        } finally {
-            gameLock.unlock();
-        }
+        return session.canCurrentPlayerPlay();
     }
 
     /**
      * Checks if the game has ended.
-     * Thread-safe operation.
      * @return true if game is over, false otherwise
      */
     public boolean isGameOver() {
-        gameLock.lock();
-        try {
-            return game.isGameOver();
-        } finally {
-            gameLock.unlock();
-        }
+        return session.isGameOver();
     }
 
     /**
      * Gets the winner of the game.
-     * Thread-safe operation.
      * @return the winning player, or null if game is not over
      */
     public Player getWinner() {
-        gameLock.lock();
-        try {
-            return game.getWinner();
-        } finally {
-            gameLock.unlock();
-        }
+        return session.getWinner();
+    }
+
+    /**
+     * Gets the winner of the game without waiting.
+     * @return future with the winning player, or null if game is not over
+     */
+    public CompletableFuture<Player> getWinnerAsync() {
+        return session.getWinnerAsync();
     }
 
     /**
@@ -375,36 +363,26 @@ public class GameConfig {
      * Waits for threads to terminate before forcing shutdown.
      */
     public void shutdown() {
-        gameLogicExecutor.shutdown();
-        validationExecutor.shutdown();
-        try {
-            if (!gameLogicExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
-                gameLogicExecutor.shutdownNow();
-            }
-            if (!validationExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
-                validationExecutor.shutdownNow();
-            }
-        } catch (InterruptedException e) {
-            gameLogicExecutor.shutdownNow();
-            validationExecutor.shutdownNow();
-            Thread.currentThread().interrupt();
-        }
+        sessionManager.shutdown();
     }
 
     // ==================== GETTERS ====================
 
     /**
      * Gets the current game model.
-     * Thread-safe operation.
      * @return the game model
      */
     public GameModel getGame() {
-        gameLock.lock();
-        try {
-            return game;
-        } finally {
-            gameLock.unlock();
-        }
+        return session.getGame();
+    }
+
+    /**
+     * Gets the latest published snapshot of the game, for rendering.
+     * @return the snapshot, or null before the first game
+     * @see GameSession#getSnapshot()
+     */
+    public GameSnapshot getSnapshot() {
+        return session.getSnapshot();
     }
 
     /**
@@ -412,7 +390,7 @@ public class GameConfig {
      * @return true if card was played, false otherwise
      */
     public boolean hasHumanPlayedCard() {
-        return humanHasPlayedCard;
+        return session.hasHumanPlayedCard();
     }
 
     /**
@@ -420,7 +398,7 @@ public class GameConfig {
      * @return true if card was drawn, false otherwise
      */
     public boolean hasHumanDrawnCard() {
-        return humanHasDrawnCard;
+        return session.hasHumanDrawnCard();
     }
 
     /**
@@ -428,52 +406,6 @@ public class GameConfig {
      * @return true if both played and drawn, false otherwise
      */
     public boolean isHumanTurnComplete() {
-        return humanHasPlayedCard && humanHasDrawnCard;
-    }
-
-    /**
-     * Result class for machine turn operations.
-     * Contains success status, message, and played card information.
-     */
-    public static class MachineTurnResult {
-        private final boolean success;
-        private final String message;
-        private final Card playedCard;
-
-        /**
-         * Creates a new MachineTurnResult.
-         * @param success true if turn was successful
-         * @param message descriptive message about the turn
-         * @param playedCard the card that was played, or null
-         */
-        public MachineTurnResult(boolean success, String message, Card playedCard) {
-            this.success = success;
-            this.message = message;
-            this.playedCard = playedCard;
-        }
-
-        /**
-         * Gets the success status.
-         * @return true if turn was successful, false otherwise
-         */
-        public boolean isSuccess() {
-            return success;
-        }
-
-        /**
-         * Gets the result message.
-         * @return descriptive message
-         */
-        public String getMessage() {
-            return message;
-        }
-
-        /**
-         * Gets the played card.
-         * @return the card that was played, or null if no card was played
-         */
-        public Card getPlayedCard() {
-            return playedCard;
-        }
+        return session.isHumanTurnComplete();
     }
-}
\ No newline at end of file
+}
@@ -1,25 +1,55 @@
 package com.example.proyecto3_.model.Game;
 
+import com.example.proyecto3_.model.Bot.GameView;
 import com.example.proyecto3_.model.Cards.Card;
+import com.example.proyecto3_.model.Cards.PlayabilityIndex;
 import com.example.proyecto3_.model.Deck.Deck;
+import com.example.proyecto3_.model.Deck.TablePile;
 import com.example.proyecto3_.model.Player.Player;
 import com.example.proyecto3_.model.Exceptions.*;
 import java.util.*;
+import java.util.random.RandomGenerator;
 
 /**
- * Represents the game logic with Queue and Map structures.
+ * Represents the game logic with a turn ring and Map structures.
  * Manages players, deck, table cards, and game state.
  */
-public class GameModel {
+public class GameModel implements GameView {
+
+    /** Largest number of players (human included) a table can seat. */
+    public static final int MAX_PLAYERS = 16;
+
+    /** Number of cards dealt to each player at the start. */
+    public static final int CARDS_PER_HAND = 4;
+
+    private final RandomGenerator random;
+    private final Long seed;
     private Deck deck;
     private List<Player> players;
-    private List<Card> tableCards;
+    private TablePile tablePile;
     private int tableSum;
-    private int currentPlayerIndex;
 
-    private Queue<Player> turnQueue;
+    private TurnRing turnRing;
+    private final CardTracker cardTracker;
+
+    private boolean verbose = true;
 
     private Map<String, PlayerGameStats> playerStatsMap;
+    private PlayerGameStats[] seatStats;
+
+    // Zobrist hash parts kept up to date by every move (see Zobrist)
+    private long[] handHashes;
+    private long handsHash;
+    private long discardHash;
+    private long eliminatedHash;
+    private final int[] discardCounts = new int[Card.CARD_COUNT];
+
+    // Latest published view for readers on other threads (see GameSnapshot)
+    private volatile GameSnapshot snapshot;
+    private boolean publishSnapshots = true;
+    private long snapshotVersion;
+    private String[] playerNames;
+    private int machineMask;
 
     /**
      * Inner class to represent overall game statistics.
@@ -139,38 +169,156 @@ public class GameModel {
     /**
      * Creates a new game with specified number of bots.
      * Initializes deck, players, and game structures.
-     * @param numBots number of machine players (1-3)
-     * @throws IllegalArgumentException if numBots is not between 1 and 3
+     * @param numBots number of machine players (1-15)
+     * @throws IllegalArgumentException if numBots is out of range or one deck is not enough
      */
     public GameModel(int numBots) {
-        if (numBots < 1 || numBots > 3) {
-            throw new IllegalArgumentException("Number of bots must be between 1 and 3");
+        this(numBots, 1, new SplittableRandom(), null);
+    }
+
+    /**
+     * Creates a new game whose randomness is fully determined by a seed.
+     * Two games created with the same seed and fed the same moves are identical.
+     * @param numBots number of machine players (1-15)
+     * @param seed the seed for the game's random generator
+     * @throws IllegalArgumentException if numBots is out of range or one deck is not enough
+     */
+    public GameModel(int numBots, long seed) {
+        this(numBots, 1, new SplittableRandom(seed), seed);
+    }
+
+    /**
+     * Creates a new game that draws all of its randomness from the given generator.
+     * The generator is owned by this game; parallel workers should pass their own
+     * split (for example {@link SplittableRandom#split()}) instead of sharing one.
+     * @param numBots number of machine players (1-15)
+     * @param random the random generator for the game
+     * @throws IllegalArgumentException if numBots is out of range or one deck is not enough
+     */
+    public GameModel(int numBots, RandomGenerator random) {
+        this(numBots, 1, random, null);
+    }
+
+    /**
+     * Creates a new game played with a shoe of several decks.
+     * Large tables need more than one deck to deal every hand.
+     * @param numBots number of machine players (1-15)
+     * @param numDecks number of standard decks in the shoe
+     * @param random the random generator for the game
+     * @throws IllegalArgumentException if numBots or numDecks is out of range,
+     *         or the shoe cannot deal every hand plus the initial card
+     */
+    public GameModel(int numBots, int numDecks, RandomGenerator random) {
+        this(numBots, numDecks, random, null);
+    }
+
+    /**
+     * Creates a new game played with a shoe of several decks, fully determined by a seed.
+     * @param numBots number of machine players (1-15)
+     * @param numDecks number of standard decks in the shoe
+     * @param seed the seed for the game's random generator
+     * @throws IllegalArgumentException if numBots or numDecks is out of range,
+     *         or the shoe cannot deal every hand plus the initial card
+     */
+    public GameModel(int numBots, int numDecks, long seed) {
+        this(numBots, numDecks, new SplittableRandom(seed), seed);
+    }
+
+    /**
+     * Creates a new game that may leave out the human player.
+     * Without a human every seat is a machine player, which is how headless
+     * simulations run complete bot-only games.
+     * @param numBots number of machine players
+     * @param numDecks number of standard decks in the shoe
+     * @param random the random generator for the game
+     * @param withHuman true to seat the human player first, false for a bot-only table
+     * @throws IllegalArgumentException if the table does not have 2-16 players,
+     *         numDecks is out of range, or the shoe cannot deal every hand plus the initial card
+     */
+    public GameModel(int numBots, int numDecks, RandomGenerator random, boolean withHuman) {
+        this(numBots, numDecks, random, null, withHuman);
+    }
+
+    /**
+     * Creates a new game with the given generator and the seed it came from, if known.
+     * @param numBots number of machine players (1-15)
+     * @param numDecks number of standard decks in the shoe
+     * @param random the random generator for the game
+     * @param seed the seed used to build the generator, or null if unknown
+     * @throws IllegalArgumentException if numBots or numDecks is out of range,
+     *         or the shoe cannot deal every hand plus the initial card
+     */
+    private GameModel(int numBots, int numDecks, RandomGenerator random, Long seed) {
+        this(numBots, numDecks, random, seed, true);
+    }
+
+    /**
+     * Creates a new game with every option.
+     * @param numBots number of machine players
+     * @param numDecks number of standard decks in the shoe
+     * @param random the random generator for the game
+     * @param seed the seed used to build the generator, or null if unknown
+     * @param withHuman true to seat the human player first
+     * @throws IllegalArgumentException if the table does not have 2-16 players,
+     *         numDecks is out of range, or the shoe cannot deal every hand plus the initial card
+     */
+    private GameModel(int numBots, int numDecks, RandomGenerator random, Long seed, boolean withHuman) {
+        int numPlayers = numBots + (withHuman ? 1 : 0);
+        if (numBots < 1 || numPlayers < 2 || numPlayers > MAX_PLAYERS) {
+            throw new IllegalArgumentException("A table needs between 2 and " + MAX_PLAYERS + " players");
+        }
+        if (numDecks < 1) {
+            throw new IllegalArgumentException("Number of decks must be at least 1");
+        }
+        if (numPlayers * CARDS_PER_HAND + 1 > numDecks * Card.CARD_COUNT) {
+            throw new IllegalArgumentException(
+                    "Not enough cards for " + numPlayers + " players with " + numDecks + " deck(s)");
         }
 
-        this.deck = new Deck();
-        this.players = new ArrayList<>();
-        this.tableCards = new ArrayList<>();
+        this.random = Objects.requireNonNull(random, "random");
+        this.seed = seed;
+        this.deck = new Deck(numDecks, random);
+        this.players = new ArrayList<>(numPlayers);
+        this.tablePile = new TablePile(numDecks * Card.CARD_COUNT);
+        this.cardTracker = new CardTracker(numDecks);
         this.tableSum = 0;
-        this.currentPlayerIndex = 0;
         this.stats = new GameStats();
 
-        this.turnQueue = new LinkedList<>();
+        this.turnRing = new TurnRing(numPlayers);
 
         this.playerStatsMap = new HashMap<>();
+        this.seatStats = new PlayerGameStats[numPlayers];
+        this.handHashes = new long[numPlayers];
 
         // Create human player
-        Player human = new Player("Tú", false);
-        players.add(human);
-        turnQueue.offer(human);
-        playerStatsMap.put(human.getName(), new PlayerGameStats());
+        if (withHuman) {
+            addPlayer(new Player("Tú", false));
+        }
 
         // Create machine players
         for (int i = 1; i <= numBots; i++) {
-            Player bot = new Player("Bot " + i, true);
-            players.add(bot);
-            turnQueue.offer(bot);
-            playerStatsMap.put(bot.getName(), new PlayerGameStats());
+            addPlayer(new Player("Bot " + i, true));
+        }
+
+        this.playerNames = new String[numPlayers];
+        for (int seat = 0; seat < numPlayers; seat++) {
+            playerNames[seat] = players.get(seat).getName();
+            if (players.get(seat).isMachine()) {
+                machineMask |= 1 << seat;
+            }
         }
+        publishSnapshot();
+    }
+
+    /**
+     * Seats a player at the next free seat with fresh statistics.
+     * @param player the player to seat
+     */
+    private void addPlayer(Player player) {
+        PlayerGameStats playerStats = new PlayerGameStats();
+        seatStats[players.size()] = playerStats;
+        players.add(player);
+        playerStatsMap.put(player.getName(), playerStats);
     }
 
     /**
@@ -184,11 +332,13 @@ public class GameModel {
         }
 
         // Deal 4 cards to each player
-        for (int i = 0; i < 4; i++) {
-            for (Player player : players) {
+        for (int i = 0; i < CARDS_PER_HAND; i++) {
+            for (int seat = 0; seat < players.size(); seat++) {
                 Card card = deck.drawCard();
                 if (card != null) {
-                    player.addCard(card);
+                    cardTracker.onDraw(card);
+                    players.get(seat).addCard(card);
+                    hashCardAdded(seat, card.getId());
                 }
             }
         }
@@ -196,10 +346,98 @@ public class GameModel {
         // Place initial card on table
         Card initialCard = deck.drawCard();
         if (initialCard != null) {
-            initialCard.setFaceUp(true);
-            tableCards.add(initialCard);
-            tableSum = initialCard.getValue(0);
+            cardTracker.onDraw(initialCard);
+            cardTracker.onPlay(initialCard);
+            tablePile.addCard(initialCard);
+            tableSum = PlayabilityIndex.delta(0, initialCard.getRankIndex());
+        }
+        publishSnapshot();
+    }
+
+    /**
+     * Gets the random generator that drives this game.
+     * @return the game's random generator
+     */
+    @Override
+    public RandomGenerator getRandom() {
+        return random;
+    }
+
+    /**
+     * Gets the seed this game was created from.
+     * @return the seed, or null if the game was not created from a seed
+     */
+    public Long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Turns the console log of draws and recycling on or off.
+     * Headless simulations turn it off.
+     * @param verbose true to print game events, false to stay silent
+     */
+    public void setVerbose(boolean verbose) {
+        this.verbose = verbose;
+    }
+
+    /**
+     * Checks if the game logs its events to the console.
+     * @return true if draws and recycling are printed
+     */
+    public boolean isVerbose() {
+        return verbose;
+    }
+
+    /**
+     * Turns snapshot publishing on or off. Headless simulations turn it off,
+     * since nobody renders their games; turning it back on publishes at once.
+     * @param publishSnapshots true to publish a snapshot after every change
+     */
+    public void setPublishSnapshots(boolean publishSnapshots) {
+        this.publishSnapshots = publishSnapshots;
+        publishSnapshot();
+    }
+
+    /**
+     * Gets the latest published snapshot. Safe from any thread: it never
+     * reads live state, so it may be one change behind a move in progress.
+     * @return the latest snapshot (the last one before publishing was turned off, if it was)
+     */
+    public GameSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Copies the visible state into a new snapshot and publishes it.
+     * Called at the end of every method that changes the game.
+     */
+    private void publishSnapshot() {
+        if (!publishSnapshots) {
+            return;
+        }
+        int numPlayers = players.size();
+        int[] handStarts = new int[numPlayers + 1];
+        for (int seat = 0; seat < numPlayers; seat++) {
+            handStarts[seat + 1] = handStarts[seat] + players.get(seat).getHand().size();
+        }
+        byte[] handCards = new byte[handStarts[numPlayers]];
+        int eliminatedMask = 0;
+        for (int seat = 0; seat < numPlayers; seat++) {
+            List<Card> hand = players.get(seat).getHand();
+            for (int i = 0; i < hand.size(); i++) {
+                handCards[handStarts[seat] + i] = (byte) hand.get(i).getId();
+            }
+            if (!turnRing.isActive(seat)) {
+                eliminatedMask |= 1 << seat;
+            }
         }
+        Card top = tablePile.getTopCard();
+        int current = turnRing.current();
+        boolean currentCanPlay = current >= 0 && current < numPlayers
+                && players.get(current).getHandMask().playableMask(tableSum) != 0;
+        snapshot = new GameSnapshot(snapshotVersion++, tableSum, top == null ? -1 : top.getId(),
+                current, deck.size(), handCards, handStarts, playerNames, machineMask,
+                eliminatedMask, currentCanPlay, stats);
     }
 
     /**
@@ -216,10 +454,97 @@ public class GameModel {
      * @throws InvalidGameStateException if player index is invalid
      */
     public Player getCurrentPlayer() {
-        if (currentPlayerIndex < 0 || currentPlayerIndex >= players.size()) {
+        int index = turnRing.current();
+        if (index < 0 || index >= players.size()) {
             throw new InvalidGameStateException("Invalid player index");
         }
-        return players.get(currentPlayerIndex);
+        return players.get(index);
+    }
+
+    /**
+     * Gets the seat index of the current player.
+     * @return index of the current player in {@link #getPlayers()}
+     */
+    @Override
+    public int getCurrentPlayerIndex() {
+        return turnRing.current();
+    }
+
+    @Override
+    public int getShoeSize() {
+        return deck.getNumDecks() * Card.CARD_COUNT;
+    }
+
+    @Override
+    public int getTableRankCount(int rankIndex) {
+        return cardTracker.getTableCount(rankIndex);
+    }
+
+    @Override
+    public int getDeckRankCount(int rankIndex) {
+        return cardTracker.getDeckCount(rankIndex);
+    }
+
+    @Override
+    public double getDrawProbability(int rankIndex) {
+        return cardTracker.getDrawProbability(rankIndex);
+    }
+
+    /**
+     * Gets the tracker that follows the rank composition of deck and table.
+     * @return the card tracker of this game
+     */
+    CardTracker getCardTracker() {
+        return cardTracker;
+    }
+
+    @Override
+    public int getNumPlayers() {
+        return players.size();
+    }
+
+    @Override
+    public boolean isEliminated(int seat) {
+        return !turnRing.isActive(seat);
+    }
+
+    @Override
+    public int getHandSize(int seat) {
+        return players.get(seat).getHandMask().size();
+    }
+
+    @Override
+    public Card getCurrentHandCard(int index) {
+        return getCurrentPlayer().getHand().get(index);
+    }
+
+    @Override
+    public long getCurrentHandMask() {
+        return getCurrentPlayer().getHandMask().getMask();
+    }
+
+    @Override
+    public long getPlayableMask() {
+        return getCurrentPlayer().getHandMask().playableMask(tableSum);
+    }
+
+    /**
+     * Finds the cards of a player's hand that are legal on the current table
+     * sum, in one pass: the legal ranks are looked up once and each card is a
+     * bit test.
+     * @param seat the player's seat
+     * @return hand positions of the legal cards (bit i set if getHand().get(i) can be played)
+     */
+    public BitSet getLegalHandPositions(int seat) {
+        int legalRanks = PlayabilityIndex.legalRankMask(tableSum);
+        List<Card> hand = players.get(seat).getHand();
+        BitSet legal = new BitSet(hand.size());
+        for (int i = 0; i < hand.size(); i++) {
+            if ((legalRanks & (1 << hand.get(i).getRankIndex())) != 0) {
+                legal.set(i);
+            }
+        }
+        return legal;
     }
 
     /**
@@ -234,6 +559,7 @@ public class GameModel {
      * Gets the current sum of card values on the table.
      * @return the sum on the table
      */
+    @Override
     public int getTableSum() {
         return tableSum;
     }
@@ -242,11 +568,9 @@ public class GameModel {
      * Gets the top card on the table (last played card).
      * @return the top card, or null if table is empty
      */
+    @Override
     public Card getTopCard() {
-        if (tableCards.isEmpty()) {
-            return null;
-        }
-        return tableCards.get(tableCards.size() - 1);
+        return tablePile.getTopCard();
     }
 
     /**
@@ -263,34 +587,41 @@ public class GameModel {
         Player currentPlayer = getCurrentPlayer();
 
         // Check if player has the card
-        if (!currentPlayer.getHand().contains(card)) {
+        if (!currentPlayer.hasCard(card)) {
             throw new InvalidMoveException("Player does not have this card");
         }
 
         // Check if card is valid
-        int newSum = tableSum + card.getValue(tableSum);
-        if (newSum > 50) {
+        int rank = card.getRankIndex();
+        if (!PlayabilityIndex.isLegal(tableSum, rank)) {
             throw new InvalidMoveException(
                     "This card would exceed 50 (current: " + tableSum + ", card: " +
-                            card.getValue(tableSum) + ")"
+                            PlayabilityIndex.delta(tableSum, rank) + ")"
             );
         }
+        int newSum = PlayabilityIndex.resultingSum(tableSum, rank);
 
         // Remove card from player's hand
         if (!currentPlayer.removeCard(card)) {
             throw new InvalidMoveException("Failed to remove card from hand");
         }
+        hashCardRemoved(turnRing.current(), card.getId());
+
+        // The old top card becomes a known discard
+        Card oldTop = tablePile.getTopCard();
+        if (oldTop != null) {
+            int id = oldTop.getId();
+            discardHash ^= Zobrist.discardKey(id, discardCounts[id]++);
+        }
 
-        // Add card to table
-        card.setFaceUp(true);
-        tableCards.add(card);
+        // Add card to table (the table pile is always face up)
+        tablePile.addCard(card);
+        cardTracker.onPlay(card);
         tableSum = newSum;
         stats.incrementCardsPlayed();
 
-        PlayerGameStats playerStats = playerStatsMap.get(currentPlayer.getName());
-        if (playerStats != null) {
-            playerStats.incrementCardsPlayed();
-        }
+        seatStats[turnRing.current()].incrementCardsPlayed();
+        publishSnapshot();
     }
 
     /**
@@ -302,83 +633,77 @@ public class GameModel {
     public Card drawCard() throws DeckEmptyException {
         // Check if deck is empty
         if (deck.isEmpty()) {
-            System.out.println("⚠️ Deck vacío. Reciclando cartas de la mesa...");
+            if (verbose) {
+                System.out.println("⚠️ Deck vacío. Reciclando cartas de la mesa...");
+            }
             recycleDeck();
 
             // If still empty after recycling, throw exception
             if (deck.isEmpty()) {
-                System.out.println("❌ No hay cartas para reciclar. Deck sigue vacío.");
+                if (verbose) {
+                    System.out.println("❌ No hay cartas para reciclar. Deck sigue vacío.");
+                }
                 throw new DeckEmptyException("Cannot draw card: deck is empty even after recycling");
             }
-            System.out.println("✅ Reciclaje exitoso. Cartas en deck: " + deck.size());
+            if (verbose) {
+                System.out.println("✅ Reciclaje exitoso. Cartas en deck: " + deck.size());
+            }
         }
 
         Card card = deck.drawCard();
         if (card != null) {
+            cardTracker.onDraw(card);
             getCurrentPlayer().addCard(card);
-            System.out.println(getCurrentPlayer().getName() + " robó una carta. Cartas en mano: " + getCurrentPlayer().getHand().size());
+            hashCardAdded(turnRing.current(), card.getId());
+            if (verbose) {
+                System.out.println(getCurrentPlayer().getName() + " robó una carta. Cartas en mano: " + getCurrentPlayer().getHand().size());
+            }
         }
+        publishSnapshot();
         return card;
     }
 
     /**
      * Recycles cards from table back to deck (except the last one).
-     * Called automatically when deck is empty.
+     * Called automatically when deck is empty. The deck takes over the pile's
+     * buffer and shuffles it in place, so recycling does not allocate.
      */
     private void recycleDeck() {
-        System.out.println("🔄 Iniciando reciclaje. Cartas en mesa: " + tableCards.size());
-
-        if (tableCards.size() <= 1) {
-            System.out.println("⚠️ Solo hay " + tableCards.size() + " carta(s) en la mesa. No se puede reciclar.");
-            return;
+        if (verbose) {
+            System.out.println("🔄 Iniciando reciclaje. Cartas en mesa: " + tablePile.size());
         }
 
-        // Take all cards except the last one
-        List<Card> cardsToRecycle = new ArrayList<>();
-        for (int i = 0; i < tableCards.size() - 1; i++) {
-            Card card = tableCards.get(i);
-            card.setFaceUp(false);
-            cardsToRecycle.add(card);
+        if (tablePile.size() <= 1) {
+            if (verbose) {
+                System.out.println("⚠️ Solo hay " + tablePile.size() + " carta(s) en la mesa. No se puede reciclar.");
+            }
+            return;
         }
 
-        // Keep only the last card on table
-        Card lastCard = tableCards.get(tableCards.size() - 1);
-        tableCards.clear();
-        tableCards.add(lastCard);
+        int recycled = deck.recycleFrom(tablePile);
+        cardTracker.onRecycle(tablePile.getTopCard());
 
-        // Add cards to deck and shuffle
-        deck.addCards(cardsToRecycle);
-        deck.shuffle();
+        // Every discard went back to the deck, only the top card is left
+        discardHash = 0;
+        Arrays.fill(discardCounts, 0);
 
-        System.out.println("✅ Reciclaje completado. " + cardsToRecycle.size() + " cartas agregadas al deck.");
-        System.out.println("📊 Estado: Mesa=" + tableCards.size() + " carta(s), Deck=" + deck.size() + " cartas");
+        if (verbose) {
+            System.out.println("✅ Reciclaje completado. " + recycled + " cartas agregadas al deck.");
+            System.out.println("📊 Estado: Mesa=" + tablePile.size() + " carta(s), Deck=" + deck.size() + " cartas");
+        }
     }
 
     /**
      * Moves to the next player's turn.
-     * Skips eliminated players and updates turn queue.
+     * Eliminated players are no longer in the turn ring, so they are skipped in O(1).
      */
     public void nextTurn() {
         stats.incrementTurns();
 
-        Player current = getCurrentPlayer();
-        PlayerGameStats playerStats = playerStatsMap.get(current.getName());
-        if (playerStats != null) {
-            playerStats.incrementTurns();
-        }
-
-        do {
-            currentPlayerIndex = (currentPlayerIndex + 1) % players.size();
-        } while (getCurrentPlayer().isEliminated() && !isGameOver());
+        seatStats[turnRing.current()].incrementTurns();
 
-        turnQueue.clear();
-        for (int i = 0; i < players.size(); i++) {
-            int index = (currentPlayerIndex + i) % players.size();
-            Player p = players.get(index);
-            if (!p.isEliminated()) {
-                turnQueue.offer(p);
-            }
-        }
+        turnRing.advance();
+        publishSnapshot();
     }
 
     /**
@@ -397,28 +722,105 @@ public class GameModel {
         // Return cards to deck
         List<Card> cards = player.clearHand();
         deck.addCards(cards);
+        for (Card card : cards) {
+            cardTracker.onReturnToDeck(card);
+        }
+
+        int seat = turnRing.current();
+        handsHash ^= handHashes[seat];
+        handHashes[seat] = 0;
+        eliminatedHash ^= Zobrist.eliminatedKey(seat);
 
         // Mark as eliminated
         player.eliminate();
+        turnRing.eliminate(seat);
         stats.incrementPlayersEliminated();
+        publishSnapshot();
 
         // Throw exception to notify
         throw new NoValidCardException(player.getName());
     }
 
+    /**
+     * Adds a card to a seat's hand hash, right after it was put in the hand.
+     * Copies of the same id are numbered in the order they entered the hand.
+     * @param seat the seat whose hand changed
+     * @param id the card id added
+     */
+    private void hashCardAdded(int seat, int id) {
+        toggleHandKey(seat, Zobrist.handKey(seat, id, players.get(seat).getHandMask().count(id) - 1));
+    }
+
+    /**
+     * Removes a card from a seat's hand hash, right after it left the hand.
+     * @param seat the seat whose hand changed
+     * @param id the card id removed
+     */
+    private void hashCardRemoved(int seat, int id) {
+        toggleHandKey(seat, Zobrist.handKey(seat, id, players.get(seat).getHandMask().count(id)));
+    }
+
+    private void toggleHandKey(int seat, long key) {
+        handHashes[seat] ^= key;
+        handsHash ^= key;
+    }
+
+    /**
+     * Gets the Zobrist hash of the whole position: every hand, the known
+     * discards, the top card, the table sum, the current seat and the
+     * eliminated seats. Two games in the same position have the same hash.
+     * @return 64-bit position hash
+     */
+    public long getPositionHash() {
+        Card top = tablePile.getTopCard();
+        long hash = handsHash ^ discardHash ^ eliminatedHash
+                ^ Zobrist.sumKey(tableSum) ^ Zobrist.turnKey(turnRing.current());
+        return top == null ? hash : hash ^ Zobrist.topKey(top.getId());
+    }
+
+    /**
+     * Gets the Zobrist hash of the cards held by one seat.
+     * @param seat the seat index
+     * @return 64-bit hash of the seat's hand, 0 for an empty hand
+     */
+    public long getHandHash(int seat) {
+        return handHashes[seat];
+    }
+
+    /**
+     * Recomputes the position hash from scratch, walking every hand and the
+     * whole table. Used to check the incremental hash.
+     * @return the same value getPositionHash() should return
+     */
+    long recomputePositionHash() {
+        long hash = 0;
+        for (int seat = 0; seat < players.size(); seat++) {
+            int[] copies = new int[Card.CARD_COUNT];
+            for (Card card : players.get(seat).getHand()) {
+                hash ^= Zobrist.handKey(seat, card.getId(), copies[card.getId()]++);
+            }
+            if (!turnRing.isActive(seat)) {
+                hash ^= Zobrist.eliminatedKey(seat);
+            }
+        }
+        List<Card> table = tablePile.getCards();
+        int[] copies = new int[Card.CARD_COUNT];
+        for (int i = 0; i < table.size() - 1; i++) {
+            hash ^= Zobrist.discardKey(table.get(i).getId(), copies[table.get(i).getId()]++);
+        }
+        if (!table.isEmpty()) {
+            hash ^= Zobrist.topKey(table.get(table.size() - 1).getId());
+        }
+        return hash ^ Zobrist.sumKey(tableSum) ^ Zobrist.turnKey(turnRing.current());
+    }
+
     /**
      * Checks if the game is over.
      * Game ends when only one player remains active.
      * @return true if only one player remains, false otherwise
      */
     public boolean isGameOver() {
-        int activePlayers = 0;
-        for (Player player : players) {
-            if (!player.isEliminated()) {
-                activePlayers++;
-            }
-        }
-        return activePlayers <= 1;
+        return turnRing.isGameOver();
     }
 
     /**
@@ -430,22 +832,28 @@ public class GameModel {
             return null;
         }
 
-        for (Player player : players) {
-            if (!player.isEliminated()) {
-                PlayerGameStats stats = playerStatsMap.get(player.getName());
-                if (stats != null) {
-                    stats.setWinner(true);
-                }
-                return player;
-            }
+        int seat = turnRing.firstActive();
+        if (seat < 0) {
+            return null;
         }
-        return null;
+
+        seatStats[seat].setWinner(true);
+        return players.get(seat);
+    }
+
+    /**
+     * Gets the seat of the winner without scanning the players.
+     * @return index of the winner in {@link #getPlayers()}, or -1 if the game is not over
+     */
+    public int getWinnerSeat() {
+        return isGameOver() ? turnRing.firstActive() : -1;
     }
 
     /**
      * Gets the current size of the deck.
      * @return number of cards in deck
      */
+    @Override
     public int getDeckSize() {
         return deck.size();
     }
@@ -467,6 +875,15 @@ public class GameModel {
         return playerStatsMap.get(playerName);
     }
 
+    /**
+     * Gets statistics for the player at a seat.
+     * @param seat index of the player in {@link #getPlayers()}
+     * @return the player's statistics
+     */
+    public PlayerGameStats getSeatStats(int seat) {
+        return seatStats[seat];
+    }
+
     /**
      * Gets all player statistics.
      * @return map of all player statistics (copy)
@@ -0,0 +1,617 @@
+package com.example.proyecto3_.model.Game;
+
+import com.example.proyecto3_.model.Bot.BotStrategy;
+import com.example.proyecto3_.model.Cards.Card;
+import com.example.proyecto3_.model.Cards.PlayabilityIndex;
+import com.example.proyecto3_.model.Player.Player;
+import com.example.proyecto3_.model.Exceptions.*;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+
+/**
+ * One game table: its GameModel and the human player's turn flags, owned by
+ * a {@link GameActor}. Every operation is a command in the actor's mailbox,
+ * so operations on one table run one at a time in arrival order without a
+ * lock, and tables never wait for each other. Sessions are created by a
+ * {@link GameSessionManager}.
+ */
+public class GameSession {
+
+    private final String id;
+    private final GameActor actor;
+
+    private volatile GameModel game;
+    private volatile boolean verbose = true;
+    private volatile boolean humanHasPlayedCard = false;
+    private volatile boolean humanHasDrawnCard = false;
+
+    /**
+     * Creates an empty session; start() deals its first game.
+     * @param id the session id
+     * @param carrier the pool that runs the session's commands
+     */
+    GameSession(String id, Executor carrier) {
+        this.id = id;
+        this.actor = new GameActor(carrier);
+    }
+
+    /**
+     * Gets the session id.
+     * @return the id this session is registered under
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Queues a command for this table without waiting for it, for steps that
+     * act on the GameModel directly. Commands run after everything queued
+     * before them, on the thread that owns the table.
+     * @param command the command to run
+     */
+    public void execute(Runnable command) {
+        actor.execute(command);
+    }
+
+    /**
+     * Deals a new game at this table, replacing the previous one.
+     * Thread-safe operation that creates and starts the game.
+     * @param numBots number of machine players
+     * @param seed the game seed
+     */
+    public void start(int numBots, long seed) {
+        actor.runAndWait(() -> {
+            game = new GameModel(numBots, seed);
+            game.setVerbose(verbose);
+            game.start();
+            resetTurnFlags();
+        });
+    }
+
+    /**
+     * Turns the console log of this table on or off, for the current game and
+     * every game dealt after it. Batch and server tables turn it off.
+     * @param verbose true to print game events, false to stay silent
+     */
+    public void setVerbose(boolean verbose) {
+        this.verbose = verbose;
+        actor.execute(() -> {
+            if (game != null) {
+                game.setVerbose(verbose);
+            }
+        });
+    }
+
+    /**
+     * Checks if this table logs game events to the console.
+     * @return true if games at this table print their events
+     */
+    public boolean isVerbose() {
+        return verbose;
+    }
+
+    /**
+     * Resets turn flags for human player.
+     * Called at the start of each turn.
+     */
+    private void resetTurnFlags() {
+        humanHasPlayedCard = false;
+        humanHasDrawnCard = false;
+    }
+
+    /**
+     * Attempts to play a card for the current player.
+     * Thread-safe operation with validation checks.
+     * @param card the card to play
+     * @return true if card was played successfully, false otherwise
+     */
+    public boolean playCard(Card card) {
+        return actor.callAndWait(() -> humanPlay(card));
+    }
+
+    /**
+     * Attempts to play a card for the current player without waiting,
+     * for callers such as the UI thread that must not block.
+     * @param card the card to play
+     * @return future with true if the card was played
+     */
+    public CompletableFuture<Boolean> playCardAsync(Card card) {
+        return actor.ask(() -> humanPlay(card));
+    }
+
+    /**
+     * Plays a card for the human player. Runs on the owner thread.
+     * @param card the card to play
+     * @return true if the card was played
+     */
+    private boolean humanPlay(Card card) {
+        try {
+            Player currentPlayer = game.getCurrentPlayer();
+
+            // Prevent playing if it's not allowed
+            if (currentPlayer.isMachine() || humanHasPlayedCard) {
+                return false;
+            }
+
+            game.playCard(card);
+            humanHasPlayedCard = true;
+            return true;
+
+        } catch (InvalidMoveException e) {
+            System.err.println("Movimiento inválido: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Attempts to draw a card for the current player.
+     * Thread-safe operation that handles deck recycling if needed.
+     * @return true if card was drawn successfully, false otherwise
+     */
+    public boolean drawCard() {
+        return actor.callAndWait(this::humanDraw);
+    }
+
+    /**
+     * Attempts to draw a card for the current player without waiting.
+     * @return future with true if the card was drawn
+     */
+    public CompletableFuture<Boolean> drawCardAsync() {
+        return actor.ask(this::humanDraw);
+    }
+
+    /**
+     * Draws a card for the human player. Runs on the owner thread.
+     * @return true if the draw counts for the turn
+     */
+    private boolean humanDraw() {
+        try {
+            Player current = game.getCurrentPlayer();
+
+            // Prevent drawing if conditions aren't met
+            if (current.isMachine() || !humanHasPlayedCard || humanHasDrawnCard) {
+                return false;
+            }
+
+            game.drawCard();
+            humanHasDrawnCard = true;
+
+            return true;
+
+        } catch (DeckEmptyException e) {
+            System.err.println("Error al robar carta: " + e.getMessage());
+            // Still count as drawn to allow turn progression
+            humanHasDrawnCard = true;
+            return true;
+        }
+    }
+
+    /**
+     * Completes the current turn and moves to next player.
+     * Thread-safe operation that resets flags and advances turn.
+     */
+    public void completeTurn() {
+        actor.runAndWait(this::advanceTurn);
+    }
+
+    /**
+     * Completes the current turn without waiting.
+     * @return future completed once the next player is to move
+     */
+    public CompletableFuture<Void> completeTurnAsync() {
+        return actor.ask(() -> {
+            advanceTurn();
+            return null;
+        });
+    }
+
+    /**
+     * Resets the turn flags and passes the turn. Runs on the owner thread.
+     */
+    private void advanceTurn() {
+        resetTurnFlags();
+        game.nextTurn();
+    }
+
+    /**
+     * Processes machine player's turn asynchronously with a given strategy.
+     * Executes card selection, playing, and drawing as a mailbox command.
+     * @param strategy the strategy that chooses the card
+     * @return Future with MachineTurnResult containing the outcome
+     */
+    public CompletableFuture<MachineTurnResult> processMachineTurnAsync(BotStrategy strategy) {
+        return actor.ask(() -> processMachineTurn(strategy));
+    }
+
+    /**
+     * Processes machine player's turn synchronously with a given strategy.
+     * Executes card selection, playing, and drawing, waiting for the result.
+     * @param strategy the strategy that chooses the card
+     * @return MachineTurnResult with the outcome
+     */
+    public MachineTurnResult processMachineTurn(BotStrategy strategy) {
+        return actor.callAndWait(() -> {
+            Player machine = game.getCurrentPlayer();
+
+            if (!machine.isMachine()) {
+                return new MachineTurnResult(false, "Not a machine player", null);
+            }
+
+            // Check if machine can play
+            if (!machine.canPlay(game.getTableSum())) {
+                return new MachineTurnResult(false, "Cannot play any card", null);
+            }
+
+            // Select and play card
+            Card selectedCard = strategy.selectCard(game);
+            if (selectedCard == null) {
+                return new MachineTurnResult(false, "No valid card selected", null);
+            }
+
+            try {
+                game.playCard(selectedCard);
+
+                // Try to draw a card
+                try {
+                    game.drawCard();
+                } catch (DeckEmptyException e) {
+                    System.err.println("Bot no pudo robar: " + e.getMessage());
+                }
+
+                return new MachineTurnResult(true, "Turn completed", selectedCard);
+
+            } catch (InvalidMoveException e) {
+                return new MachineTurnResult(false, "Invalid move: " + e.getMessage(), null);
+            }
+        });
+    }
+
+    /**
+     * Plays consecutive machine turns in one mailbox command: every turn
+     * plays, draws and passes the turn (or eliminates the player) without
+     * going back to the caller. Stops when the game is
+     * over, a human player is to move, or maxTurns turns have been played.
+     * The UI can replay the returned events afterwards.
+     * @param strategy the strategy that chooses the cards
+     * @param maxTurns largest number of turns to play
+     * @return what happened in each turn, in order
+     */
+    public List<TurnEvent> runMachineTurns(BotStrategy strategy, int maxTurns) {
+        return actor.callAndWait(() -> {
+            List<TurnEvent> events = new ArrayList<>();
+            while (events.size() < maxTurns && !game.isGameOver()) {
+                Player machine = game.getCurrentPlayer();
+                if (!machine.isMachine()) {
+                    break;
+                }
+                int seat = game.getCurrentPlayerIndex();
+
+                Card selectedCard = machine.canPlay(game.getTableSum()) ? strategy.selectCard(game) : null;
+                if (selectedCard == null) {
+                    try {
+                        game.eliminateCurrentPlayer();
+                    } catch (NoValidCardException e) {
+                        // Expected: elimination is always reported through this exception
+                    }
+                    events.add(new TurnEvent(seat, machine.getName(), null, false, game.getTableSum()));
+                } else {
+                    try {
+                        game.playCard(selectedCard);
+                    } catch (InvalidMoveException e) {
+                        throw new InvalidGameStateException("Bot selected an illegal card", e);
+                    }
+                    boolean drew;
+                    try {
+                        drew = game.drawCard() != null;
+                    } catch (DeckEmptyException e) {
+                        drew = false;
+                    }
+                    events.add(new TurnEvent(seat, machine.getName(), selectedCard, drew, game.getTableSum()));
+                }
+
+                resetTurnFlags();
+                game.nextTurn();
+            }
+            return events;
+        });
+    }
+
+    /**
+     * Plays consecutive machine turns without waiting for them.
+     * @param strategy the strategy that chooses the cards
+     * @param maxTurns largest number of turns to play
+     * @return future with what happened in each turn, in order
+     */
+    public CompletableFuture<List<TurnEvent>> runMachineTurnsAsync(BotStrategy strategy, int maxTurns) {
+        return actor.ask(() -> runMachineTurns(strategy, maxTurns));
+    }
+
+    /**
+     * Validates if a move is valid asynchronously, after every command queued before it.
+     * Useful for AI planning and move validation without blocking.
+     * @param card the card to validate
+     * @return Future containing true if move is valid, false otherwise
+     */
+    public Future<Boolean> validateMoveAsync(Card card) {
+        return actor.ask(() -> PlayabilityIndex.isLegal(game.getTableSum(), card));
+    }
+
+    /**
+     * Validates a whole hand in one command: finds the cards the player at a
+     * seat could play right now. Nothing is playable when it is not that
+     * seat's turn, or when a human player has already played this turn.
+     * @param seat the player's seat
+     * @return hand positions of the playable cards
+     */
+    public BitSet validateHand(int seat) {
+        return actor.callAndWait(() -> playableHandPositions(seat));
+    }
+
+    /**
+     * Validates a whole hand asynchronously, after every command queued before it.
+     * @param seat the player's seat
+     * @return future with the hand positions of the playable cards
+     * @see #validateHand(int)
+     */
+    public CompletableFuture<BitSet> validateHandAsync(int seat) {
+        return actor.ask(() -> playableHandPositions(seat));
+    }
+
+    /**
+     * Finds the playable cards of a seat; runs on the owner thread.
+     * @param seat the player's seat
+     * @return hand positions of the playable cards
+     */
+    private BitSet playableHandPositions(int seat) {
+        Player player = game.getPlayers().get(seat);
+        if (game.getCurrentPlayerIndex() != seat || (!player.isMachine() && humanHasPlayedCard)) {
+            return new BitSet();
+        }
+        return game.getLegalHandPositions(seat);
+    }
+
+    /**
+     * Eliminates the current player.
+     * Thread-safe operation that removes player and returns cards to deck.
+     * @return name of eliminated player
+     */
+    public String eliminateCurrentPlayer() {
+        return actor.callAndWait(this::eliminateCurrent);
+    }
+
+    /**
+     * Eliminates the current player without waiting.
+     * @return future with the name of the eliminated player
+     */
+    public CompletableFuture<String> eliminateCurrentPlayerAsync() {
+        return actor.ask(this::eliminateCurrent);
+    }
+
+    /**
+     * Eliminates the current player. Runs on the owner thread.
+     * @return name of the eliminated player
+     */
+    private String eliminateCurrent() {
+        try {
+            String playerName = game.getCurrentPlayer().getName();
+            game.eliminateCurrentPlayer();
+
+            resetTurnFlags();
+
+            return playerName;
+
+        } catch (NoValidCardException e) {
+            resetTurnFlags();
+            return e.getMessage();
+        }
+    }
+
+    /**
+     * Checks if current player can make any valid move.
+     * Thread-safe operation that waits for the mailbox; callers that must not
+     * block read {@link GameSnapshot#canCurrentPlayerPlay()} instead.
+     * @return true if player can play, false otherwise
+     */
+    public boolean canCurrentPlayerPlay() {
+        return actor.callAndWait(() -> game.getCurrentPlayer().canPlay(game.getTableSum()));
+    }
+
+    /**
+     * Checks if the game has ended.
+     * Thread-safe operation that waits for the mailbox; callers that must not
+     * block read {@link GameSnapshot#isGameOver()} instead.
+     * @return true if game is over, false otherwise
+     */
+    public boolean isGameOver() {
+        return actor.callAndWait(() -> game.isGameOver());
+    }
+
+    /**
+     * Gets the winner of the game.
+     * Thread-safe operation.
+     * @return the winning player, or null if game is not over
+     */
+    public Player getWinner() {
+        return actor.callAndWait(() -> game.getWinner());
+    }
+
+    /**
+     * Gets the winner of the game without waiting.
+     * @return future with the winning player, or null if game is not over
+     */
+    public CompletableFuture<Player> getWinnerAsync() {
+        return actor.ask(() -> game.getWinner());
+    }
+
+    /**
+     * Gets the current game model. Reading it outside the session's commands
+     * is racy: render from getSnapshot() and mutate only through execute().
+     * @return the game model
+     */
+    public GameModel getGame() {
+        return game;
+    }
+
+    /**
+     * Gets the latest published snapshot of this table's game, without
+     * waiting for the mailbox.
+     * @return the snapshot, or null before the first game
+     */
+    public GameSnapshot getSnapshot() {
+        GameModel current = game;
+        return current == null ? null : current.getSnapshot();
+    }
+
+    // ==================== TURN FLAGS ====================
+
+    /**
+     * Checks if human player has played a card this turn.
+     * @return true if card was played, false otherwise
+     */
+    public boolean hasHumanPlayedCard() {
+        return humanHasPlayedCard;
+    }
+
+    /**
+     * Checks if human player has drawn a card this turn.
+     * @return true if card was drawn, false otherwise
+     */
+    public boolean hasHumanDrawnCard() {
+        return humanHasDrawnCard;
+    }
+
+    /**
+     * Checks if human player has completed their turn.
+     * @return true if both played and drawn, false otherwise
+     */
+    public boolean isHumanTurnComplete() {
+        return humanHasPlayedCard && humanHasDrawnCard;
+    }
+
+    /**
+     * One machine turn played by runMachineTurns: who moved, the card played
+     * (null if the player was eliminated), and the table sum after the turn.
+     */
+    public static class TurnEvent {
+        private final int seat;
+        private final String playerName;
+        private final Card playedCard;
+        private final boolean drewCard;
+        private final int tableSum;
+
+        /**
+         * Creates a new TurnEvent.
+         * @param seat the seat that moved
+         * @param playerName the name of the player that moved
+         * @param playedCard the card played, or null if the player was eliminated
+         * @param drewCard true if the player drew a card after playing
+         * @param tableSum the table sum after the turn
+         */
+        public TurnEvent(int seat, String playerName, Card playedCard, boolean drewCard, int tableSum) {
+            this.seat = seat;
+            this.playerName = playerName;
+            this.playedCard = playedCard;
+            this.drewCard = drewCard;
+            this.tableSum = tableSum;
+        }
+
+        /**
+         * Gets the seat that moved.
+         * @return the seat index
+         */
+        public int getSeat() {
+            return seat;
+        }
+
+        /**
+         * Gets the name of the player that moved.
+         * @return the player name
+         */
+        public String getPlayerName() {
+            return playerName;
+        }
+
+        /**
+         * Gets the card played in this turn.
+         * @return the played card, or null if the player was eliminated
+         */
+        public Card getPlayedCard() {
+            return playedCard;
+        }
+
+        /**
+         * Checks if the player was eliminated in this turn.
+         * @return true if eliminated, false if a card was played
+         */
+        public boolean isElimination() {
+            return playedCard == null;
+        }
+
+        /**
+         * Checks if the player drew a card after playing.
+         * @return true if a card was drawn
+         */
+        public boolean hasDrawnCard() {
+            return drewCard;
+        }
+
+        /**
+         * Gets the table sum after this turn.
+         * @return the sum on the table
+         */
+        public int getTableSum() {
+            return tableSum;
+        }
+    }
+
+    /**
+     * Result class for machine turn operations.
+     * Contains success status, message, and played card information.
+     */
+    public static class MachineTurnResult {
+        private final boolean success;
+        private final String message;
+        private final Card playedCard;
+
+        /**
+         * Creates a new MachineTurnResult.
+         * @param success true if turn was successful
+         * @param message descriptive message about the turn
+         * @param playedCard the card that was played, or null
+         */
+        public MachineTurnResult(boolean success, String message, Card playedCard) {
+            this.success = success;
+            this.message = message;
+            this.playedCard = playedCard;
+        }
+
+        /**
+         * Gets the success status.
+         * @return true if turn was successful, false otherwise
+         */
+        public boolean isSuccess() {
+            return success;
+        }
+
+        /**
+         * Gets the result message.
+         * @return descriptive message
+         */
+        public String getMessage() {
+            return message;
+        }
+
+        /**
+         * Gets the played card.
+         * @return the card that was played, or null if no card was played
+         */
+        public Card getPlayedCard() {
+            return playedCard;
+        }
+    }
+}
\ No newline at end of file
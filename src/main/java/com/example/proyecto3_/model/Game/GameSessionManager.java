@@ -0,0 +1,147 @@
+package com.example.proyecto3_.model.Game;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hosts many independent game tables in one process. Sessions live in a
+ * concurrent map keyed by session id, so creating, finding and closing
+ * tables never blocks play at other tables. Each session is an actor with its
+ * own mailbox and turn flags; the actors borrow threads from one shared
+ * executor only while they have commands, so hundreds of tables do not need
+ * hundreds of threads. With {@link ExecutionMode#VIRTUAL} every drain gets a
+ * virtual thread, so a command that blocks (a timed search, for example)
+ * does not hold an OS thread.
+ */
+public class GameSessionManager {
+
+    private final ConcurrentHashMap<String, GameSession> sessions = new ConcurrentHashMap<>();
+
+    private final ExecutionMode executionMode;
+    private final ExecutorService gameLogicExecutor;
+
+    /**
+     * Creates a manager in the mode chosen by the proyecto3.executionMode
+     * system property, virtual threads by default when the JVM has them.
+     */
+    public GameSessionManager() {
+        this(ExecutionMode.fromSystemProperty(), Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a manager with a given number of platform game logic threads.
+     * @param logicThreads threads shared by the mailboxes of every session
+     * @throws IllegalArgumentException if logicThreads is not positive
+     */
+    public GameSessionManager(int logicThreads) {
+        this(ExecutionMode.PLATFORM, logicThreads);
+    }
+
+    /**
+     * Creates a manager that runs session commands in a given mode.
+     * @param executionMode the kind of threads to use; VIRTUAL falls back to
+     *                      PLATFORM when the JVM has no virtual threads
+     * @param logicThreads threads shared by the mailboxes of every session in PLATFORM mode
+     * @throws IllegalArgumentException if logicThreads is not positive
+     */
+    public GameSessionManager(ExecutionMode executionMode, int logicThreads) {
+        if (logicThreads < 1) {
+            throw new IllegalArgumentException("Need at least one game logic thread");
+        }
+        this.executionMode = executionMode.resolve();
+        this.gameLogicExecutor = this.executionMode.newExecutor("GameLogicThread-", logicThreads);
+    }
+
+    /**
+     * Gets the kind of threads running session commands.
+     * @return PLATFORM or VIRTUAL, after any fallback
+     */
+    public ExecutionMode getExecutionMode() {
+        return executionMode;
+    }
+
+    /**
+     * Opens a session under a fresh random id.
+     * @return the new session, not started yet
+     */
+    public GameSession createSession() {
+        return createSession(UUID.randomUUID().toString());
+    }
+
+    /**
+     * Opens a session under a given id.
+     * @param id the session id
+     * @return the new session, not started yet
+     * @throws IllegalArgumentException if a session with that id is already open
+     */
+    public GameSession createSession(String id) {
+        GameSession session = new GameSession(id, gameLogicExecutor);
+        if (sessions.putIfAbsent(id, session) != null) {
+            throw new IllegalArgumentException("Session already exists: " + id);
+        }
+        return session;
+    }
+
+    /**
+     * Gets an open session.
+     * @param id the session id
+     * @return the session, or null if no session has that id
+     */
+    public GameSession getSession(String id) {
+        return sessions.get(id);
+    }
+
+    /**
+     * Gets an open session, opening it first if needed.
+     * @param id the session id
+     * @return the session with that id
+     */
+    public GameSession getOrCreateSession(String id) {
+        return sessions.computeIfAbsent(id, key -> new GameSession(key, gameLogicExecutor));
+    }
+
+    /**
+     * Closes a session. Its game is dropped; commands already in its mailbox still run.
+     * @param id the session id
+     * @return the closed session, or null if no session had that id
+     */
+    public GameSession closeSession(String id) {
+        return sessions.remove(id);
+    }
+
+    /**
+     * Gets the ids of the open sessions.
+     * @return a live view of the open session ids
+     */
+    public Set<String> getSessionIds() {
+        return sessions.keySet();
+    }
+
+    /**
+     * Gets the number of open sessions.
+     * @return open session count
+     */
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    /**
+     * Closes every session and shuts down the shared pool gracefully.
+     * Waits for threads to terminate before forcing shutdown.
+     */
+    public void shutdown() {
+        sessions.clear();
+        gameLogicExecutor.shutdown();
+        try {
+            if (!gameLogicExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
+                gameLogicExecutor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            gameLogicExecutor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package com.example.proyecto3_.model.Game;
+
+import com.example.proyecto3_.model.Cards.Card;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable copy of what the table shows: sum, top card, every hand as card
+ * ids, deck size, turn and statistics. GameModel builds one after every
+ * change and publishes it through a volatile field, so the UI can render from
+ * any thread without touching live state or waiting for the game.
+ */
+public final class GameSnapshot {
+
+    private final long version;
+    private final int tableSum;
+    private final int topCardId;
+    private final int currentSeat;
+    private final int deckSize;
+
+    // Hand of seat s is handCards[handStarts[s] .. handStarts[s + 1])
+    private final byte[] handCards;
+    private final int[] handStarts;
+
+    // Shared by every snapshot of a game: names and seat kinds never change
+    private final String[] playerNames;
+    private final int machineMask;
+
+    private final int eliminatedMask;
+    private final boolean currentCanPlay;
+    private final int totalTurns;
+    private final int cardsPlayed;
+    private final int playersEliminated;
+
+    /**
+     * Creates a snapshot; the arrays are owned by the snapshot from now on.
+     * @param version number of snapshots the game published before this one
+     * @param tableSum the table sum
+     * @param topCardId id of the top card, or -1 for an empty table
+     * @param currentSeat the seat to move
+     * @param deckSize cards in the deck
+     * @param handCards every hand's card ids, seat after seat
+     * @param handStarts where each seat's hand starts in handCards, plus the total length
+     * @param playerNames names by seat, shared between snapshots
+     * @param machineMask bit per machine seat
+     * @param eliminatedMask bit per eliminated seat
+     * @param currentCanPlay whether the seat to move holds a legal card
+     * @param stats the game statistics to copy
+     */
+    GameSnapshot(long version, int tableSum, int topCardId, int currentSeat, int deckSize,
+                 byte[] handCards, int[] handStarts, String[] playerNames, int machineMask,
+                 int eliminatedMask, boolean currentCanPlay, GameModel.GameStats stats) {
+        this.version = version;
+        this.tableSum = tableSum;
+        this.topCardId = topCardId;
+        this.currentSeat = currentSeat;
+        this.deckSize = deckSize;
+        this.handCards = handCards;
+        this.handStarts = handStarts;
+        this.playerNames = playerNames;
+        this.machineMask = machineMask;
+        this.eliminatedMask = eliminatedMask;
+        this.currentCanPlay = currentCanPlay;
+        this.totalTurns = stats.getTotalTurns();
+        this.cardsPlayed = stats.getCardsPlayed();
+        this.playersEliminated = stats.getPlayersEliminated();
+    }
+
+    /**
+     * Gets the snapshot's place in the game's history; later snapshots have higher versions.
+     * @return the version
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Gets the table sum.
+     * @return the sum on the table
+     */
+    public int getTableSum() {
+        return tableSum;
+    }
+
+    /**
+     * Gets the top card of the table.
+     * @return the top card, or null for an empty table
+     */
+    public Card getTopCard() {
+        return topCardId < 0 ? null : Card.of(topCardId);
+    }
+
+    /**
+     * Gets the seat to move.
+     * @return the current seat
+     */
+    public int getCurrentSeat() {
+        return currentSeat;
+    }
+
+    /**
+     * Checks if the seat to move holds a card it can play.
+     * @return true if the current player can play, false if it must be eliminated
+     */
+    public boolean canCurrentPlayerPlay() {
+        return currentCanPlay;
+    }
+
+    /**
+     * Gets the number of seats.
+     * @return number of players, eliminated ones included
+     */
+    public int getNumPlayers() {
+        return playerNames.length;
+    }
+
+    /**
+     * Gets a player's name.
+     * @param seat the seat index
+     * @return the player's name
+     */
+    public String getPlayerName(int seat) {
+        return playerNames[seat];
+    }
+
+    /**
+     * Checks if a seat is played by the machine.
+     * @param seat the seat index
+     * @return true for a machine player
+     */
+    public boolean isMachine(int seat) {
+        return (machineMask & (1 << seat)) != 0;
+    }
+
+    /**
+     * Checks if a seat is out of the game.
+     * @param seat the seat index
+     * @return true if eliminated
+     */
+    public boolean isEliminated(int seat) {
+        return (eliminatedMask & (1 << seat)) != 0;
+    }
+
+    /**
+     * Gets the number of cards a seat holds.
+     * @param seat the seat index
+     * @return hand size
+     */
+    public int getHandSize(int seat) {
+        return handStarts[seat + 1] - handStarts[seat];
+    }
+
+    /**
+     * Gets one card of a seat's hand.
+     * @param seat the seat index
+     * @param index position in the hand
+     * @return the card
+     */
+    public Card getHandCard(int seat, int index) {
+        if (index < 0 || index >= getHandSize(seat)) {
+            throw new IndexOutOfBoundsException("Hand position " + index + " of seat " + seat);
+        }
+        return Card.of(handCards[handStarts[seat] + index]);
+    }
+
+    /**
+     * Gets a seat's hand, in the same order as the player's live hand.
+     * @param seat the seat index
+     * @return unmodifiable list of cards
+     */
+    public List<Card> getHand(int seat) {
+        List<Card> hand = new ArrayList<>(getHandSize(seat));
+        for (int i = handStarts[seat]; i < handStarts[seat + 1]; i++) {
+            hand.add(Card.of(handCards[i]));
+        }
+        return Collections.unmodifiableList(hand);
+    }
+
+    /**
+     * Gets the number of cards in the deck.
+     * @return deck size
+     */
+    public int getDeckSize() {
+        return deckSize;
+    }
+
+    /**
+     * Gets the number of completed turns.
+     * @return total turns
+     */
+    public int getTotalTurns() {
+        return totalTurns;
+    }
+
+    /**
+     * Gets the number of cards played.
+     * @return cards played
+     */
+    public int getCardsPlayed() {
+        return cardsPlayed;
+    }
+
+    /**
+     * Gets the number of eliminated players.
+     * @return players eliminated
+     */
+    public int getPlayersEliminated() {
+        return playersEliminated;
+    }
+
+    /**
+     * Checks if the game has ended.
+     * @return true if only one player is left
+     */
+    public boolean isGameOver() {
+        return Integer.bitCount(eliminatedMask) >= playerNames.length - 1;
+    }
+
+    /**
+     * Gets the seat left in a finished game.
+     * @return the winning seat, or -1 if the game is not over
+     */
+    public int getWinnerSeat() {
+        if (!isGameOver()) {
+            return -1;
+        }
+        int active = ~eliminatedMask & ((1 << playerNames.length) - 1);
+        return active == 0 ? -1 : Integer.numberOfTrailingZeros(active);
+    }
+}
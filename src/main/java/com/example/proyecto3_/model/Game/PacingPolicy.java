@@ -0,0 +1,84 @@
+package com.example.proyecto3_.model.Game;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Delays that pace a machine player's turn on screen: a thinking pause before
+ * the card is played, a pause before drawing, and a pause before the turn ends.
+ * Delays are only used to schedule the next step; nothing sleeps on them.
+ */
+public final class PacingPolicy {
+
+    /** Default pacing: 2-4 s thinking, 2-3 s before drawing, 1 s before ending the turn. */
+    public static final PacingPolicy DEFAULT = new PacingPolicy(2000, 4000, 2000, 3000, 1000);
+
+    /** No delays at all, for all-bot games and demos. */
+    public static final PacingPolicy TURBO = new PacingPolicy(0, 0, 0, 0, 0);
+
+    private final long minThinkMillis;
+    private final long maxThinkMillis;
+    private final long minDrawMillis;
+    private final long maxDrawMillis;
+    private final long endMillis;
+
+    /**
+     * Creates a policy with random delays in the given ranges.
+     * @param minThinkMillis shortest pause before playing
+     * @param maxThinkMillis longest pause before playing (exclusive unless equal to the minimum)
+     * @param minDrawMillis shortest pause before drawing
+     * @param maxDrawMillis longest pause before drawing (exclusive unless equal to the minimum)
+     * @param endMillis pause before the turn ends
+     * @throws IllegalArgumentException if a delay is negative or a range is inverted
+     */
+    public PacingPolicy(long minThinkMillis, long maxThinkMillis, long minDrawMillis, long maxDrawMillis, long endMillis) {
+        if (minThinkMillis < 0 || minDrawMillis < 0 || endMillis < 0) {
+            throw new IllegalArgumentException("Delays cannot be negative");
+        }
+        if (maxThinkMillis < minThinkMillis || maxDrawMillis < minDrawMillis) {
+            throw new IllegalArgumentException("Maximum delay cannot be below the minimum");
+        }
+        this.minThinkMillis = minThinkMillis;
+        this.maxThinkMillis = maxThinkMillis;
+        this.minDrawMillis = minDrawMillis;
+        this.maxDrawMillis = maxDrawMillis;
+        this.endMillis = endMillis;
+    }
+
+    /**
+     * Picks the pause before a machine player plays its card.
+     * @param random the generator for the pause
+     * @return delay in milliseconds
+     */
+    public long thinkMillis(RandomGenerator random) {
+        return between(minThinkMillis, maxThinkMillis, random);
+    }
+
+    /**
+     * Picks the pause between playing and drawing.
+     * @param random the generator for the pause
+     * @return delay in milliseconds
+     */
+    public long drawMillis(RandomGenerator random) {
+        return between(minDrawMillis, maxDrawMillis, random);
+    }
+
+    /**
+     * Gets the pause between drawing and ending the turn.
+     * @return delay in milliseconds
+     */
+    public long endMillis() {
+        return endMillis;
+    }
+
+    /**
+     * Checks if this policy never delays anything.
+     * @return true for a zero-delay policy
+     */
+    public boolean isTurbo() {
+        return maxThinkMillis == 0 && maxDrawMillis == 0 && endMillis == 0;
+    }
+
+    private static long between(long min, long max, RandomGenerator random) {
+        return max == min ? min : min + random.nextLong(max - min);
+    }
+}
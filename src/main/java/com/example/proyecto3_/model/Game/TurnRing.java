@@ -0,0 +1,114 @@
+package com.example.proyecto3_.model.Game;
+
+/**
+ * Circular turn order over the active players.
+ * Players are seats 0..n-1 linked in a doubly linked ring backed by int arrays,
+ * so advancing, eliminating and the game-over check are O(1) and never allocate.
+ */
+public class TurnRing {
+
+    private final int[] next;
+    private final int[] prev;
+    private final boolean[] active;
+    private int current;
+    private int activeCount;
+
+    /**
+     * Creates a ring with every seat active and seat 0 to play first.
+     * @param seats number of seats at the table
+     * @throws IllegalArgumentException if seats is less than 1
+     */
+    public TurnRing(int seats) {
+        if (seats < 1) {
+            throw new IllegalArgumentException("Turn ring needs at least one seat");
+        }
+        this.next = new int[seats];
+        this.prev = new int[seats];
+        this.active = new boolean[seats];
+        for (int i = 0; i < seats; i++) {
+            next[i] = (i + 1) % seats;
+            prev[i] = (i - 1 + seats) % seats;
+            active[i] = true;
+        }
+        this.current = 0;
+        this.activeCount = seats;
+    }
+
+    /**
+     * Gets the seat whose turn it is.
+     * @return the current seat
+     */
+    public int current() {
+        return current;
+    }
+
+    /**
+     * Moves the turn to the next active seat.
+     * Works from an eliminated seat too, since its next link is kept.
+     * @return the new current seat
+     */
+    public int advance() {
+        current = next[current];
+        return current;
+    }
+
+    /**
+     * Removes a seat from the ring.
+     * The seat keeps its own next link so the turn can advance from it.
+     * @param seat the seat to eliminate
+     */
+    public void eliminate(int seat) {
+        if (!active[seat]) {
+            return;
+        }
+        active[seat] = false;
+        activeCount--;
+        next[prev[seat]] = next[seat];
+        prev[next[seat]] = prev[seat];
+    }
+
+    /**
+     * Checks if a seat is still in the game.
+     * @param seat the seat to check
+     * @return true if the seat is active
+     */
+    public boolean isActive(int seat) {
+        return active[seat];
+    }
+
+    /**
+     * Gets the number of seats still in the game.
+     * @return active seat count
+     */
+    public int activeCount() {
+        return activeCount;
+    }
+
+    /**
+     * Checks if at most one seat remains.
+     * @return true if the game is over
+     */
+    public boolean isGameOver() {
+        return activeCount <= 1;
+    }
+
+    /**
+     * Gets an active seat, starting from the current one.
+     * When the game is over this is the winner.
+     * @return an active seat, or -1 if none remain
+     */
+    public int firstActive() {
+        if (activeCount == 0) {
+            return -1;
+        }
+        return active[current] ? current : next[current];
+    }
+
+    /**
+     * Gets the number of seats, active or not.
+     * @return total seat count
+     */
+    public int size() {
+        return next.length;
+    }
+}
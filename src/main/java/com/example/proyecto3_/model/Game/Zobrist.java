@@ -0,0 +1,92 @@
+package com.example.proyecto3_.model.Game;
+
+/**
+ * Zobrist keys for the parts of a game position.
+ * A position hash is the XOR of the keys of everything in it, so adding or
+ * removing one element is a single XOR. Keys are derived from their
+ * coordinates with a SplitMix64 finalizer instead of stored in tables, so they
+ * cover any number of seats, decks and sums, and are the same in every game
+ * and every run. Repeated copies of a card (multi-deck shoes) get distinct
+ * keys through their copy index.
+ */
+public final class Zobrist {
+
+    // One salt per kind of key, so equal coordinates never collide across kinds
+    private static final long HAND = 0x6a09e667f3bcc908L;
+    private static final long DISCARD = 0xbb67ae8584caa73bL;
+    private static final long TOP = 0x3c6ef372fe94f82bL;
+    private static final long SUM = 0xa54ff53a5f1d36f1L;
+    private static final long TURN = 0x510e527fade682d1L;
+    private static final long ELIMINATED = 0x9b05688c2b3e6c1fL;
+
+    private Zobrist() {
+    }
+
+    /**
+     * Gets the key of one copy of a card in a player's hand.
+     * @param seat the seat holding the card
+     * @param cardId the card id (0-51)
+     * @param copy 0 for the first copy of that id in the hand, 1 for the second, ...
+     * @return the key
+     */
+    public static long handKey(int seat, int cardId, int copy) {
+        return mix(HAND + (((long) seat << 40) | ((long) copy << 8) | cardId));
+    }
+
+    /**
+     * Gets the key of one copy of a card in the discards under the top card.
+     * @param cardId the card id (0-51)
+     * @param copy 0 for the first copy of that id in the discards, 1 for the second, ...
+     * @return the key
+     */
+    public static long discardKey(int cardId, int copy) {
+        return mix(DISCARD + (((long) copy << 8) | cardId));
+    }
+
+    /**
+     * Gets the key of the card on top of the table.
+     * @param cardId the card id (0-51)
+     * @return the key
+     */
+    public static long topKey(int cardId) {
+        return mix(TOP + cardId);
+    }
+
+    /**
+     * Gets the key of a table sum.
+     * @param sum the sum on the table
+     * @return the key
+     */
+    public static long sumKey(int sum) {
+        return mix(SUM + sum);
+    }
+
+    /**
+     * Gets the key of the seat whose turn it is.
+     * @param seat the current seat
+     * @return the key
+     */
+    public static long turnKey(int seat) {
+        return mix(TURN + seat);
+    }
+
+    /**
+     * Gets the key of an eliminated seat.
+     * @param seat the eliminated seat
+     * @return the key
+     */
+    public static long eliminatedKey(int seat) {
+        return mix(ELIMINATED + seat);
+    }
+
+    /**
+     * SplitMix64 finalizer: a bijective 64-bit mix with good avalanche.
+     * @param z the value to mix
+     * @return the mixed value
+     */
+    static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -2,17 +2,22 @@ package com.example.proyecto3_.model.Player;
 
 import com.example.proyecto3_.model.Cards.Card;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 
 /**
  * Abstract class that provides the basic implementation for players.
  * Implements IPlayer and defines shared attributes and logic.
+ * The hand is kept both as an ordered list (for display) and as a {@link HandMask}
+ * (for constant-time membership and playability checks).
  */
 public abstract class AbstractPlayer implements IPlayer {
 
     protected String name;
     protected List<Card> hand;
+    protected final List<Card> handView;
+    protected final HandMask handMask;
     protected boolean isEliminated;
     protected boolean isMachine;
 
@@ -25,6 +30,8 @@ public abstract class AbstractPlayer implements IPlayer {
         this.name = name;
         this.isMachine = isMachine;
         this.hand = new ArrayList<>();
+        this.handView = Collections.unmodifiableList(hand);
+        this.handMask = new HandMask();
         this.isEliminated = false;
     }
 
@@ -40,19 +47,35 @@ public abstract class AbstractPlayer implements IPlayer {
 
     @Override
     public List<Card> getHand() {
-        return hand;
+        return handView;
+    }
+
+    @Override
+    public HandMask getHandMask() {
+        return handMask;
     }
 
     @Override
     public void addCard(Card card) {
         hand.add(card);
-        if (!isMachine) {
-            card.setFaceUp(true); // Human cards are face up
-        }
+        handMask.add(card.getId());
+    }
+
+    @Override
+    public boolean hasCard(Card card) {
+        return handMask.contains(card.getId());
+    }
+
+    @Override
+    public boolean isHandFaceUp() {
+        return !isMachine; // Human cards are face up
     }
 
     @Override
     public boolean removeCard(Card card) {
+        if (!handMask.remove(card.getId())) {
+            return false;
+        }
         return hand.remove(card);
     }
 
@@ -70,6 +93,7 @@ public abstract class AbstractPlayer implements IPlayer {
     public List<Card> clearHand() {
         List<Card> cards = new ArrayList<>(hand);
         hand.clear();
+        handMask.clear();
         return cards;
     }
 
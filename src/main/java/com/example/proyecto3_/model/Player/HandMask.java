@@ -0,0 +1,120 @@
+package com.example.proyecto3_.model.Player;
+
+import com.example.proyecto3_.model.Cards.Card;
+import com.example.proyecto3_.model.Cards.PlayabilityIndex;
+import java.util.Arrays;
+
+/**
+ * Compact representation of a hand as a 52-bit mask plus card and rank counts.
+ * Membership, removal and "can any card be played at this sum" are single
+ * bitwise operations against the legal-card masks of {@link PlayabilityIndex}.
+ */
+public class HandMask {
+
+    private long mask;
+    private final byte[] cardCounts = new byte[Card.CARD_COUNT];
+    private final byte[] rankCounts = new byte[Card.RANK_COUNT];
+    private int size;
+
+    /**
+     * Adds a card to the hand.
+     * @param id the card id
+     */
+    public void add(int id) {
+        cardCounts[id]++;
+        rankCounts[id % Card.RANK_COUNT]++;
+        mask |= 1L << id;
+        size++;
+    }
+
+    /**
+     * Removes one copy of a card from the hand.
+     * @param id the card id
+     * @return true if the card was in the hand
+     */
+    public boolean remove(int id) {
+        if (cardCounts[id] == 0) {
+            return false;
+        }
+        if (--cardCounts[id] == 0) {
+            mask &= ~(1L << id);
+        }
+        rankCounts[id % Card.RANK_COUNT]--;
+        size--;
+        return true;
+    }
+
+    /**
+     * Removes every card from the hand.
+     */
+    public void clear() {
+        while (mask != 0) {
+            int id = Long.numberOfTrailingZeros(mask);
+            cardCounts[id] = 0;
+            mask &= mask - 1;
+        }
+        Arrays.fill(rankCounts, (byte) 0);
+        size = 0;
+    }
+
+    /**
+     * Checks if the hand holds a card.
+     * @param id the card id
+     * @return true if at least one copy is in the hand
+     */
+    public boolean contains(int id) {
+        return (mask >>> id & 1L) != 0;
+    }
+
+    /**
+     * Checks if any card in the hand can be played at a table sum.
+     * @param sum the current sum on the table
+     * @return true if at least one card is legal
+     */
+    public boolean canPlay(int sum) {
+        return (mask & PlayabilityIndex.legalCardMask(sum)) != 0;
+    }
+
+    /**
+     * Gets the mask of cards in the hand that can be played at a table sum.
+     * @param sum the current sum on the table
+     * @return mask with one bit set per playable card id in the hand
+     */
+    public long playableMask(int sum) {
+        return mask & PlayabilityIndex.legalCardMask(sum);
+    }
+
+    /**
+     * Gets the mask of distinct cards in the hand.
+     * @return mask with one bit set per card id held
+     */
+    public long getMask() {
+        return mask;
+    }
+
+    /**
+     * Gets how many copies of a card are in the hand.
+     * @param id the card id
+     * @return number of copies
+     */
+    public int count(int id) {
+        return cardCounts[id];
+    }
+
+    /**
+     * Gets how many cards of a rank are in the hand.
+     * @param rankIndex the rank index (0-12)
+     * @return number of cards of that rank
+     */
+    public int rankCount(int rankIndex) {
+        return rankCounts[rankIndex];
+    }
+
+    /**
+     * Gets the number of cards in the hand.
+     * @return hand size
+     */
+    public int size() {
+        return size;
+    }
+}
@@ -22,16 +22,35 @@ public interface IPlayer {
 
     /**
      * Gets the player's hand.
-     * @return list of cards in hand
+     * @return read-only list of cards in hand
      */
     List<Card> getHand();
 
+    /**
+     * Gets the bitmask representation of the player's hand.
+     * @return the hand mask
+     */
+    HandMask getHandMask();
+
     /**
      * Adds a card to the player's hand.
      * @param card the card to add
      */
     void addCard(Card card);
 
+    /**
+     * Checks if the player holds a card.
+     * @param card the card to look for
+     * @return true if the card is in hand
+     */
+    boolean hasCard(Card card);
+
+    /**
+     * Checks if the cards in this player's hand are shown face up.
+     * @return true for human players, false for machine players
+     */
+    boolean isHandFaceUp();
+
     /**
      * Removes a card from the player's hand.
      * @param card the card to remove
@@ -1,7 +1,6 @@
 package com.example.proyecto3_.model.Player;
 
 import com.example.proyecto3_.model.Cards.Card;
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -38,13 +37,22 @@ public class Player extends AbstractPlayer {
 
     /**
      * Gets the player's hand.
-     * @return list of cards in hand
+     * @return read-only list of cards in hand
      */
     @Override
     public List<Card> getHand() {
         return super.getHand();
     }
 
+    /**
+     * Gets the bitmask representation of the player's hand.
+     * @return the hand mask
+     */
+    @Override
+    public HandMask getHandMask() {
+        return super.getHandMask();
+    }
+
     /**
      * Adds a card to the player's hand.
      * @param card the card to add
@@ -54,6 +62,25 @@ public class Player extends AbstractPlayer {
         super.addCard(card);
     }
 
+    /**
+     * Checks if the player holds a card.
+     * @param card the card to look for
+     * @return true if the card is in hand
+     */
+    @Override
+    public boolean hasCard(Card card) {
+        return super.hasCard(card);
+    }
+
+    /**
+     * Checks if the cards in this player's hand are shown face up.
+     * @return true for human players, false for machine players
+     */
+    @Override
+    public boolean isHandFaceUp() {
+        return super.isHandFaceUp();
+    }
+
     /**
      * Removes a card from the player's hand.
      * @param card the card to remove
@@ -88,13 +115,7 @@ public class Player extends AbstractPlayer {
      */
     @Override
     public boolean canPlay(int currentSum) {
-        for (Card card : hand) {
-            int newSum = currentSum + card.getValue(currentSum);
-            if (newSum <= 50) {
-                return true;
-            }
-        }
-        return false;
+        return handMask.canPlay(currentSum);
     }
 
     /**
@@ -108,9 +129,14 @@ public class Player extends AbstractPlayer {
             return null; // Human selects manually
         }
 
+        long playable = handMask.playableMask(currentSum);
+        if (playable == 0) {
+            return null;
+        }
+
+        // Keep the first playable card in hand order
         for (Card card : hand) {
-            int newSum = currentSum + card.getValue(currentSum);
-            if (newSum <= 50) {
+            if ((playable >>> card.getId() & 1L) != 0) {
                 return card;
             }
         }
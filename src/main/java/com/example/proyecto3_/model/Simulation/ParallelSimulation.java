@@ -0,0 +1,141 @@
+package com.example.proyecto3_.model.Simulation;
+
+import com.example.proyecto3_.model.Bot.BotStrategy;
+import com.example.proyecto3_.model.Bot.FirstLegalStrategy;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Supplier;
+
+/**
+ * Monte Carlo harness that spreads a batch of headless games over a fork-join pool.
+ * Every leaf task owns its own SimulationEngine, strategies, games and random
+ * stream (split from a root SplittableRandom), so workers share no mutable
+ * state and the per-worker results are merged at the end. The split tree only depends on the
+ * number of games, so a seed gives the same totals on any number of cores.
+ */
+public class ParallelSimulation {
+
+    /** Largest number of games a single leaf task plays sequentially. */
+    public static final int GAMES_PER_TASK = 2048;
+
+    private final int numPlayers;
+    private final int numDecks;
+    private final long seed;
+    private final ForkJoinPool pool;
+    private final Supplier<BotStrategy[]> strategies;
+
+    /**
+     * Creates a harness on the common fork-join pool.
+     * @param numPlayers number of machine players per game (2-16)
+     * @param numDecks number of standard decks in the shoe
+     * @param seed the root seed for every worker's random stream
+     */
+    public ParallelSimulation(int numPlayers, int numDecks, long seed) {
+        this(numPlayers, numDecks, seed, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a harness on a given fork-join pool.
+     * @param numPlayers number of machine players per game (2-16)
+     * @param numDecks number of standard decks in the shoe
+     * @param seed the root seed for every worker's random stream
+     * @param pool the pool that runs the tasks
+     */
+    public ParallelSimulation(int numPlayers, int numDecks, long seed, ForkJoinPool pool) {
+        this(numPlayers, numDecks, seed, pool,
+                () -> SimulationEngine.sameStrategy(numPlayers, new FirstLegalStrategy()));
+    }
+
+    /**
+     * Creates a harness with one strategy per seat.
+     * Every leaf task asks the supplier for its own strategies, so strategies
+     * that keep state (search trees, loaded tables) are never shared between
+     * workers. A strategy that searches on its own threads, such as a
+     * multi-threaded ismcts bot, runs them on its own pool, never on this one.
+     * @param numPlayers number of machine players per game (2-16)
+     * @param numDecks number of standard decks in the shoe
+     * @param seed the root seed for every worker's random stream
+     * @param pool the pool that runs the tasks
+     * @param strategies creates the strategy of each seat, once per leaf task
+     */
+    public ParallelSimulation(int numPlayers, int numDecks, long seed, ForkJoinPool pool,
+                              Supplier<BotStrategy[]> strategies) {
+        this.numPlayers = numPlayers;
+        this.numDecks = numDecks;
+        this.seed = seed;
+        this.pool = pool;
+        this.strategies = strategies;
+    }
+
+    /**
+     * Plays a number of games in parallel and merges the results.
+     * The elapsed time of the result is the wall-clock time of the whole batch.
+     * @param games number of games to play
+     * @return the merged result
+     */
+    public SimulationResult run(int games) {
+        long start = System.nanoTime();
+        SimulationResult result = pool.invoke(new SimulationTask(games, new SplittableRandom(seed)));
+        result.setElapsedNanos(System.nanoTime() - start);
+        return result;
+    }
+
+    /**
+     * Fork-join task that halves its batch until it is small enough to play.
+     */
+    private class SimulationTask extends RecursiveTask<SimulationResult> {
+        private final int games;
+        private final SplittableRandom random;
+
+        /**
+         * Creates a task for a share of the batch.
+         * @param games number of games in this share
+         * @param random the random stream owned by this task
+         */
+        SimulationTask(int games, SplittableRandom random) {
+            this.games = games;
+            this.random = random;
+        }
+
+        @Override
+        protected SimulationResult compute() {
+            if (games <= GAMES_PER_TASK) {
+                return new SimulationEngine(numPlayers, numDecks, random, strategies.get()).run(games);
+            }
+
+            int half = games / 2;
+            SimulationTask left = new SimulationTask(half, random.split());
+            SimulationTask right = new SimulationTask(games - half, random);
+            left.fork();
+            SimulationResult result = right.compute();
+            result.merge(left.join());
+            return result;
+        }
+    }
+
+    /**
+     * Runs a parallel batch from the command line and prints the report.
+     * Arguments: [games] [players] [decks] [seed] [threads] [strategies].
+     * @param args command line arguments
+     */
+    public static void main(String[] args) {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int players = args.length > 1 ? Integer.parseInt(args[1]) : 4;
+        int decks = args.length > 2 ? Integer.parseInt(args[2]) : 1;
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : new SplittableRandom().nextLong();
+        int threads = args.length > 4 ? Integer.parseInt(args[4]) : Runtime.getRuntime().availableProcessors();
+        String names = args.length > 5 ? args[5] : "first-legal";
+        Supplier<BotStrategy[]> strategies = () -> SimulationEngine.parseStrategies(names, players);
+
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            SimulationResult result = new ParallelSimulation(players, decks, seed, pool, strategies).run(games);
+            System.out.println("Semilla: " + seed + " | Hilos: " + threads);
+            System.out.println(result);
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.proyecto3_.model.Simulation;
+
+import com.example.proyecto3_.model.Bot.IsmctsStrategy;
+import com.example.proyecto3_.model.Game.GameModel;
+
+import java.util.SplittableRandom;
+
+/**
+ * Measures how many search iterations per second the ISMCTS bot reaches with
+ * 1, 2, 4, ... threads, searching the opening position of a set of seeded games
+ * with a fixed time budget per move.
+ */
+public class SearchBenchmark {
+
+    private final int numPlayers;
+    private final long seed;
+    private final int positions;
+    private final long budgetMillis;
+
+    /**
+     * Creates a benchmark.
+     * @param numPlayers number of machine players per game (2-16)
+     * @param seed seed of the first game; position i uses seed + i
+     * @param positions number of positions searched per thread count
+     * @param budgetMillis time budget per search in milliseconds
+     */
+    public SearchBenchmark(int numPlayers, long seed, int positions, long budgetMillis) {
+        this.numPlayers = numPlayers;
+        this.seed = seed;
+        this.positions = positions;
+        this.budgetMillis = budgetMillis;
+    }
+
+    /**
+     * Searches every position with a given number of threads.
+     * @param threads number of search threads
+     * @return iterations per second over all searched positions
+     */
+    public double iterationsPerSecond(int threads) {
+        IsmctsStrategy strategy = new IsmctsStrategy(budgetMillis, Integer.MAX_VALUE, new SplittableRandom(seed), threads);
+        long iterations = 0;
+        long nanos = 0;
+        for (int i = 0; i < positions; i++) {
+            GameModel game = new GameModel(numPlayers, 1, seed + i);
+            game.setVerbose(false);
+            game.start();
+
+            long start = System.nanoTime();
+            strategy.selectCard(game);
+            nanos += System.nanoTime() - start;
+            iterations += strategy.getLastIterations();
+        }
+        return nanos == 0 ? 0.0 : iterations * 1e9 / nanos;
+    }
+
+    /**
+     * Runs the benchmark from the command line.
+     * Arguments (all optional): [maxThreads] [players] [budgetMillis] [positions] [seed]
+     * @param args command line arguments
+     */
+    public static void main(String[] args) {
+        int maxThreads = args.length > 0 ? Integer.parseInt(args[0]) : Runtime.getRuntime().availableProcessors();
+        int players = args.length > 1 ? Integer.parseInt(args[1]) : 4;
+        long budget = args.length > 2 ? Long.parseLong(args[2]) : 200;
+        int positions = args.length > 3 ? Integer.parseInt(args[3]) : 20;
+        long seed = args.length > 4 ? Long.parseLong(args[4]) : new SplittableRandom().nextLong();
+
+        SearchBenchmark benchmark = new SearchBenchmark(players, seed, positions, budget);
+        System.out.println("Semilla: " + seed + " | Jugadores: " + players + " | Presupuesto: " + budget + " ms");
+
+        // Warm up the JIT so the single-thread figure is not penalized
+        benchmark.iterationsPerSecond(1);
+
+        double base = 0.0;
+        // Powers of two, always ending with maxThreads itself
+        int threads = 1;
+        while (true) {
+            double rate = benchmark.iterationsPerSecond(threads);
+            if (threads == 1) {
+                base = rate;
+            }
+            System.out.printf("Hilos: %2d | Iteraciones/s: %,.0f | Aceleración: %.2fx%n",
+                    threads, rate, base == 0.0 ? 0.0 : rate / base);
+            if (threads >= maxThreads) {
+                break;
+            }
+            threads = Math.min(threads * 2, maxThreads);
+        }
+    }
+}
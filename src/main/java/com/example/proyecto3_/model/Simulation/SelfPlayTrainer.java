@@ -0,0 +1,302 @@
+package com.example.proyecto3_.model.Simulation;
+
+import com.example.proyecto3_.model.Bot.BotStrategy;
+import com.example.proyecto3_.model.Bot.GameView;
+import com.example.proyecto3_.model.Bot.LearnedPolicyStrategy;
+import com.example.proyecto3_.model.Cards.Card;
+import com.example.proyecto3_.model.Game.GameModel;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Self-play pipeline that learns a {@link LearnedPolicyStrategy} table.
+ * Training runs in generations. In each one, worker threads play headless
+ * games where every seat uses the previous generation's policy with some
+ * random exploration, and stream one record per decision (policy entry and
+ * whether that seat went on to win) through their own {@link SpscRing} to the
+ * learner, which is the calling thread. The learner keeps win and visit counts
+ * per entry, and the new policy is the smoothed win rate of each entry.
+ * Counting is order-independent, so a seed gives the same weights on any
+ * interleaving of the workers.
+ */
+public class SelfPlayTrainer {
+
+    /** Slots in each worker's ring. */
+    public static final int RING_CAPACITY = 1 << 14;
+
+    /** Default chance of exploring a random legal card during self-play. */
+    public static final double DEFAULT_EPSILON = 0.2;
+
+    private final int numPlayers;
+    private final int numDecks;
+    private final int workers;
+    private final double epsilon;
+    private final long seed;
+    private long lastDecisions;
+
+    /**
+     * Creates a trainer.
+     * @param numPlayers number of machine players per game (2-16)
+     * @param numDecks number of standard decks in the shoe
+     * @param workers number of self-play threads
+     * @param epsilon chance of exploring a random legal card
+     * @param seed root seed of every game and exploration stream
+     */
+    public SelfPlayTrainer(int numPlayers, int numDecks, int workers, double epsilon, long seed) {
+        if (workers < 1) {
+            throw new IllegalArgumentException("Training needs at least one worker");
+        }
+        this.numPlayers = numPlayers;
+        this.numDecks = numDecks;
+        this.workers = workers;
+        this.epsilon = epsilon;
+        this.seed = seed;
+    }
+
+    /**
+     * Trains a policy from scratch.
+     * @param generations number of self-play generations
+     * @param gamesPerGeneration games played in each generation, over all workers
+     * @return the weights of the last generation
+     */
+    public float[] train(int generations, int gamesPerGeneration) {
+        float[] weights = new float[LearnedPolicyStrategy.ENTRIES];
+        Arrays.fill(weights, 0.5f);
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int g = 0; g < generations; g++) {
+            weights = runGeneration(weights, gamesPerGeneration, random.split());
+        }
+        return weights;
+    }
+
+    /**
+     * Plays one generation and fits the next policy from its decisions.
+     * @param policy the weights every seat plays with
+     * @param games number of games to play
+     * @param random the stream every worker's stream is split from
+     * @return the new weights
+     */
+    public float[] runGeneration(float[] policy, int games, SplittableRandom random) {
+        SpscRing[] rings = new SpscRing[workers];
+        AtomicInteger finished = new AtomicInteger();
+        List<Future<?>> results = new ArrayList<>(workers);
+        ExecutorService pool = Executors.newFixedThreadPool(workers, r -> {
+            Thread t = new Thread(r, "SelfPlayWorker");
+            t.setDaemon(true);
+            return t;
+        });
+
+        try {
+            for (int w = 0; w < workers; w++) {
+                rings[w] = new SpscRing(RING_CAPACITY);
+                int share = games / workers + (w < games % workers ? 1 : 0);
+                Worker worker = new Worker(rings[w], share, policy, random.split(), random.split());
+                results.add(pool.submit(() -> {
+                    try {
+                        worker.run();
+                    } finally {
+                        finished.incrementAndGet();
+                    }
+                }));
+            }
+
+            float[] weights = learn(rings, finished);
+            for (Future<?> result : results) {
+                result.get();
+            }
+            return weights;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Training interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Self-play worker failed", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Learner loop: drains every ring until all workers are done and the rings are empty.
+     * @param rings one ring per worker
+     * @param finished number of workers that have pushed their last record
+     * @return the smoothed win rate of every entry
+     */
+    private float[] learn(SpscRing[] rings, AtomicInteger finished) {
+        int[] visits = new int[LearnedPolicyStrategy.ENTRIES];
+        int[] wins = new int[LearnedPolicyStrategy.ENTRIES];
+        long decisions = 0;
+
+        int idle = 0;
+        while (true) {
+            // Read the flag first: once every worker is done, one more full drain sees all records
+            boolean done = finished.get() == workers;
+            int drained = 0;
+            for (SpscRing ring : rings) {
+                for (long record = ring.poll(); record != SpscRing.EMPTY; record = ring.poll()) {
+                    int entry = (int) (record >>> 1);
+                    visits[entry]++;
+                    wins[entry] += (int) (record & 1);
+                    drained++;
+                }
+            }
+            decisions += drained;
+            if (done && drained == 0) {
+                break;
+            }
+            if (drained == 0) {
+                SpscRing.backOff(idle++);
+            } else {
+                idle = 0;
+            }
+        }
+
+        lastDecisions = decisions;
+        float[] weights = new float[LearnedPolicyStrategy.ENTRIES];
+        for (int i = 0; i < weights.length; i++) {
+            weights[i] = (wins[i] + 1.0f) / (visits[i] + 2.0f);
+        }
+        return weights;
+    }
+
+    /**
+     * Gets how many decisions the last generation learned from.
+     * @return number of records drained by the learner
+     */
+    public long getLastDecisions() {
+        return lastDecisions;
+    }
+
+    /**
+     * Writes weights in the format LearnedPolicyStrategy reads.
+     * @param weights the weights to write
+     * @param out the stream to write to
+     * @throws IOException if writing fails
+     */
+    public static void write(float[] weights, OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(LearnedPolicyStrategy.MAGIC);
+        data.writeInt(LearnedPolicyStrategy.SUMS);
+        data.writeInt(Card.RANK_COUNT);
+        data.writeInt(LearnedPolicyStrategy.NEGATIVE_BUCKETS);
+        for (float weight : weights) {
+            data.writeFloat(weight);
+        }
+        data.flush();
+    }
+
+    /**
+     * Self-play worker: plays its share of games and sends one record per
+     * decision once the winner of the game is known.
+     */
+    private class Worker implements BotStrategy {
+        private final SpscRing ring;
+        private final int games;
+        private final SimulationEngine engine;
+        private final LearnedPolicyStrategy policy;
+
+        // Decisions of the game in progress
+        private int[] entries = new int[256];
+        private int[] seats = new int[256];
+        private int count;
+
+        /**
+         * Creates a worker.
+         * @param ring the ring to the learner
+         * @param games number of games to play
+         * @param policy the weights every seat plays with
+         * @param gameRandom the stream for shuffles
+         * @param exploreRandom the stream for exploration
+         */
+        Worker(SpscRing ring, int games, float[] policy, SplittableRandom gameRandom, SplittableRandom exploreRandom) {
+            this.ring = ring;
+            this.games = games;
+            this.policy = new LearnedPolicyStrategy(policy, epsilon, exploreRandom);
+            this.engine = new SimulationEngine(numPlayers, numDecks, gameRandom,
+                    SimulationEngine.sameStrategy(numPlayers, this));
+        }
+
+        /**
+         * Plays every game and streams the decisions of the finished ones.
+         */
+        void run() {
+            for (int i = 0; i < games; i++) {
+                count = 0;
+                GameModel game = engine.newGame();
+                if (!engine.playGame(game)) {
+                    continue;
+                }
+                int winner = game.getWinnerSeat();
+                for (int d = 0; d < count; d++) {
+                    ring.put(((long) entries[d] << 1) | (seats[d] == winner ? 1 : 0));
+                }
+            }
+        }
+
+        @Override
+        public Card selectCard(GameView view) {
+            Card card = policy.selectCard(view);
+            if (card != null) {
+                if (count == entries.length) {
+                    entries = Arrays.copyOf(entries, count * 2);
+                    seats = Arrays.copyOf(seats, count * 2);
+                }
+                int rank = card.getRankIndex();
+                int kept = LearnedPolicyStrategy.negativesInHand(view) - (LearnedPolicyStrategy.isNegative(rank) ? 1 : 0);
+                entries[count] = LearnedPolicyStrategy.entryOf(view.getTableSum(), rank, kept);
+                seats[count] = view.getCurrentPlayerIndex();
+                count++;
+            }
+            return card;
+        }
+
+        @Override
+        public String getName() {
+            return "self-play";
+        }
+    }
+
+    /**
+     * Trains a policy and writes it to a file.
+     * Arguments (all optional): [file] [generations] [gamesPerGeneration] [players] [workers] [seed]
+     * @param args command line arguments
+     * @throws IOException if the file cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        Path file = Path.of(args.length > 0 ? args[0] : "policy.bin");
+        int generations = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+        int games = args.length > 2 ? Integer.parseInt(args[2]) : 200_000;
+        int players = args.length > 3 ? Integer.parseInt(args[3]) : 4;
+        int workers = args.length > 4 ? Integer.parseInt(args[4]) : Runtime.getRuntime().availableProcessors();
+        long seed = args.length > 5 ? Long.parseLong(args[5]) : new SplittableRandom().nextLong();
+
+        SelfPlayTrainer trainer = new SelfPlayTrainer(players, 1, workers, DEFAULT_EPSILON, seed);
+        float[] weights = new float[LearnedPolicyStrategy.ENTRIES];
+        Arrays.fill(weights, 0.5f);
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int g = 1; g <= generations; g++) {
+            long start = System.nanoTime();
+            weights = trainer.runGeneration(weights, games, random.split());
+            System.out.printf("Generación %d: %d partidas, %d decisiones en %.2f s%n",
+                    g, games, trainer.getLastDecisions(), (System.nanoTime() - start) / 1e9);
+        }
+
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file))) {
+            write(weights, out);
+        }
+        System.out.println("Semilla: " + seed + " | Pesos escritos en " + file);
+    }
+}
@@ -0,0 +1,181 @@
+package com.example.proyecto3_.model.Simulation;
+
+import com.example.proyecto3_.model.Bot.BotStrategy;
+import com.example.proyecto3_.model.Bot.FirstLegalStrategy;
+import com.example.proyecto3_.model.Cards.Card;
+import com.example.proyecto3_.model.Exceptions.*;
+import com.example.proyecto3_.model.Game.GameModel;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Headless engine that plays complete bot-only games through GameModel.
+ * Applies the same turn rules as GameConfig (play, draw, next turn; eliminate
+ * when no card can be played) with no UI, no pacing delays and no console output.
+ */
+public class SimulationEngine {
+
+    /** Turn limit after which a game is abandoned as unfinished. */
+    public static final int MAX_TURNS_PER_GAME = 10_000;
+
+    private final int numPlayers;
+    private final int numDecks;
+    private final RandomGenerator random;
+    private final BotStrategy[] strategies;
+
+    /**
+     * Creates an engine for bot-only tables where every bot plays the first legal card.
+     * @param numPlayers number of machine players per game (2-16)
+     * @param numDecks number of standard decks in the shoe
+     * @param random the random generator every game draws from
+     */
+    public SimulationEngine(int numPlayers, int numDecks, RandomGenerator random) {
+        this(numPlayers, numDecks, random, sameStrategy(numPlayers, new FirstLegalStrategy()));
+    }
+
+    /**
+     * Creates an engine for bot-only tables with one strategy per seat.
+     * @param numPlayers number of machine players per game (2-16)
+     * @param numDecks number of standard decks in the shoe
+     * @param random the random generator every game draws from
+     * @param strategies the strategy of each seat
+     * @throws IllegalArgumentException if there is not one strategy per seat
+     */
+    public SimulationEngine(int numPlayers, int numDecks, RandomGenerator random, BotStrategy[] strategies) {
+        if (strategies.length != numPlayers) {
+            throw new IllegalArgumentException("Expected one strategy per seat");
+        }
+        this.numPlayers = numPlayers;
+        this.numDecks = numDecks;
+        this.random = random;
+        this.strategies = strategies.clone();
+    }
+
+    /**
+     * Builds a strategy array with the same strategy on every seat.
+     * @param numPlayers number of seats
+     * @param strategy the strategy to use
+     * @return one entry per seat
+     */
+    public static BotStrategy[] sameStrategy(int numPlayers, BotStrategy strategy) {
+        BotStrategy[] strategies = new BotStrategy[numPlayers];
+        Arrays.fill(strategies, strategy);
+        return strategies;
+    }
+
+    /**
+     * Creates an engine whose games are fully determined by a seed.
+     * @param numPlayers number of machine players per game (2-16)
+     * @param numDecks number of standard decks in the shoe
+     * @param seed the seed for the engine's random generator
+     */
+    public SimulationEngine(int numPlayers, int numDecks, long seed) {
+        this(numPlayers, numDecks, new SplittableRandom(seed));
+    }
+
+    /**
+     * Plays a number of games back to back and aggregates their statistics.
+     * @param games number of games to play
+     * @return the aggregated result
+     */
+    public SimulationResult run(int games) {
+        SimulationResult result = new SimulationResult(numPlayers);
+        long start = System.nanoTime();
+        for (int i = 0; i < games; i++) {
+            GameModel game = newGame();
+            playGame(game);
+            result.record(game);
+        }
+        result.addElapsedNanos(System.nanoTime() - start);
+        return result;
+    }
+
+    /**
+     * Creates and deals a new silent bot-only game.
+     * @return the started game
+     */
+    public GameModel newGame() {
+        GameModel game = new GameModel(numPlayers, numDecks, random, false);
+        game.setVerbose(false);
+        game.setPublishSnapshots(false);
+        game.start();
+        return game;
+    }
+
+    /**
+     * Plays a game until one player remains or the turn limit is reached.
+     * @param game a started game
+     * @return true if the game finished with a winner
+     */
+    public boolean playGame(GameModel game) {
+        for (int turn = 0; turn < MAX_TURNS_PER_GAME; turn++) {
+            if (game.isGameOver()) {
+                return true;
+            }
+            playTurn(game);
+        }
+        return game.isGameOver();
+    }
+
+    /**
+     * Plays the current player's turn and passes the turn on.
+     * @param game a started game that is not over
+     */
+    public void playTurn(GameModel game) {
+        Card card = strategies[game.getCurrentPlayerIndex()].selectCard(game);
+
+        if (card == null) {
+            try {
+                game.eliminateCurrentPlayer();
+            } catch (NoValidCardException e) {
+                // Expected: elimination is always reported through this exception
+            }
+        } else {
+            try {
+                game.playCard(card);
+                game.drawCard();
+            } catch (InvalidMoveException e) {
+                throw new InvalidGameStateException("Bot selected an illegal card", e);
+            } catch (DeckEmptyException e) {
+                // Same as GameConfig: the turn goes on without drawing
+            }
+        }
+        game.nextTurn();
+    }
+
+    /**
+     * Runs a batch from the command line and prints the report.
+     * Arguments: [games] [players] [decks] [seed] [strategies], where strategies is a
+     * comma-separated list of {@link BotStrategy#named(String)} names assigned to the
+     * seats in turn.
+     * @param args command line arguments
+     */
+    public static void main(String[] args) {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        int players = args.length > 1 ? Integer.parseInt(args[1]) : 4;
+        int decks = args.length > 2 ? Integer.parseInt(args[2]) : 1;
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : new SplittableRandom().nextLong();
+        BotStrategy[] strategies = parseStrategies(args.length > 4 ? args[4] : "first-legal", players);
+
+        SimulationResult result = new SimulationEngine(players, decks, new SplittableRandom(seed), strategies).run(games);
+        System.out.println("Semilla: " + seed);
+        System.out.println(result);
+    }
+
+    /**
+     * Assigns comma-separated strategy names to the seats in turn.
+     * @param names comma-separated strategy names
+     * @param numPlayers number of seats
+     * @return one strategy per seat
+     */
+    public static BotStrategy[] parseStrategies(String names, int numPlayers) {
+        String[] parts = names.split(",");
+        BotStrategy[] strategies = new BotStrategy[numPlayers];
+        for (int seat = 0; seat < numPlayers; seat++) {
+            strategies[seat] = BotStrategy.named(parts[seat % parts.length].trim());
+        }
+        return strategies;
+    }
+}
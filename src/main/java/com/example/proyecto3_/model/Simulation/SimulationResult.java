@@ -0,0 +1,185 @@
+package com.example.proyecto3_.model.Simulation;
+
+import com.example.proyecto3_.model.Game.GameModel;
+
+/**
+ * Aggregated statistics of a batch of simulated games.
+ * Totals are kept as longs so millions of games can be summed without overflow,
+ * and results from several workers can be merged.
+ */
+public class SimulationResult {
+
+    private final long[] winsBySeat;
+    private final long[] cardsPlayedBySeat;
+    private final long[] turnsBySeat;
+    private long games;
+    private long unfinishedGames;
+    private long totalTurns;
+    private long totalCardsPlayed;
+    private long totalEliminations;
+    private long elapsedNanos;
+
+    /**
+     * Creates an empty result for tables of the given size.
+     * @param numPlayers number of seats per game
+     */
+    public SimulationResult(int numPlayers) {
+        this.winsBySeat = new long[numPlayers];
+        this.cardsPlayedBySeat = new long[numPlayers];
+        this.turnsBySeat = new long[numPlayers];
+    }
+
+    /**
+     * Adds the statistics of one finished or abandoned game.
+     * @param game the played game
+     */
+    public void record(GameModel game) {
+        games++;
+        GameModel.GameStats stats = game.getStats();
+        totalTurns += stats.getTotalTurns();
+        totalCardsPlayed += stats.getCardsPlayed();
+        totalEliminations += stats.getPlayersEliminated();
+
+        for (int seat = 0; seat < winsBySeat.length; seat++) {
+            GameModel.PlayerGameStats seatStats = game.getSeatStats(seat);
+            cardsPlayedBySeat[seat] += seatStats.getCardsPlayed();
+            turnsBySeat[seat] += seatStats.getTurnsPlayed();
+        }
+
+        if (game.getWinner() != null) {
+            winsBySeat[game.getWinnerSeat()]++;
+        } else {
+            unfinishedGames++;
+        }
+    }
+
+    /**
+     * Adds another result into this one.
+     * @param other result of the same table size
+     * @throws IllegalArgumentException if the table sizes differ
+     */
+    public void merge(SimulationResult other) {
+        if (other.winsBySeat.length != winsBySeat.length) {
+            throw new IllegalArgumentException("Cannot merge results of different table sizes");
+        }
+        games += other.games;
+        unfinishedGames += other.unfinishedGames;
+        totalTurns += other.totalTurns;
+        totalCardsPlayed += other.totalCardsPlayed;
+        totalEliminations += other.totalEliminations;
+        for (int seat = 0; seat < winsBySeat.length; seat++) {
+            winsBySeat[seat] += other.winsBySeat[seat];
+            cardsPlayedBySeat[seat] += other.cardsPlayedBySeat[seat];
+            turnsBySeat[seat] += other.turnsBySeat[seat];
+        }
+    }
+
+    /**
+     * Adds time spent playing the games.
+     * @param nanos elapsed nanoseconds
+     */
+    public void addElapsedNanos(long nanos) {
+        elapsedNanos += nanos;
+    }
+
+    /**
+     * Sets the wall-clock time of the whole batch, replacing summed worker times.
+     * @param nanos elapsed nanoseconds
+     */
+    public void setElapsedNanos(long nanos) {
+        elapsedNanos = nanos;
+    }
+
+    /**
+     * Gets the number of games played.
+     * @return games played
+     */
+    public long getGames() { return games; }
+
+    /**
+     * Gets the number of games abandoned at the turn limit.
+     * @return unfinished games
+     */
+    public long getUnfinishedGames() { return unfinishedGames; }
+
+    /**
+     * Gets the total number of turns over all games.
+     * @return total turns
+     */
+    public long getTotalTurns() { return totalTurns; }
+
+    /**
+     * Gets the total number of cards played over all games.
+     * @return total cards played
+     */
+    public long getTotalCardsPlayed() { return totalCardsPlayed; }
+
+    /**
+     * Gets the total number of eliminations over all games.
+     * @return total eliminations
+     */
+    public long getTotalEliminations() { return totalEliminations; }
+
+    /**
+     * Gets the number of wins of a seat.
+     * @param seat the seat index
+     * @return games won from that seat
+     */
+    public long getWins(int seat) { return winsBySeat[seat]; }
+
+    /**
+     * Gets the number of cards played from a seat.
+     * @param seat the seat index
+     * @return cards played from that seat
+     */
+    public long getCardsPlayed(int seat) { return cardsPlayedBySeat[seat]; }
+
+    /**
+     * Gets the number of turns played from a seat.
+     * @param seat the seat index
+     * @return turns played from that seat
+     */
+    public long getTurnsPlayed(int seat) { return turnsBySeat[seat]; }
+
+    /**
+     * Gets the number of seats per game.
+     * @return table size
+     */
+    public int getNumPlayers() { return winsBySeat.length; }
+
+    /**
+     * Gets the time spent playing.
+     * @return elapsed nanoseconds
+     */
+    public long getElapsedNanos() { return elapsedNanos; }
+
+    /**
+     * Gets the throughput of the batch.
+     * @return games per second, or 0 if no time was measured
+     */
+    public double getGamesPerSecond() {
+        return elapsedNanos == 0 ? 0 : games * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * Returns a report of the batch.
+     * @return formatted statistics string
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Partidas: ").append(games)
+                .append(" (sin terminar: ").append(unfinishedGames).append(")\n");
+        sb.append(String.format("Partidas/s: %.1f%n", getGamesPerSecond()));
+        sb.append("Turnos: ").append(totalTurns)
+                .append(" | Cartas: ").append(totalCardsPlayed)
+                .append(" | Eliminados: ").append(totalEliminations).append('\n');
+        for (int seat = 0; seat < winsBySeat.length; seat++) {
+            sb.append("Asiento ").append(seat)
+                    .append(": victorias=").append(winsBySeat[seat])
+                    .append(", cartas=").append(cardsPlayedBySeat[seat])
+                    .append(", turnos=").append(turnsBySeat[seat]).append('\n');
+        }
+        return sb.toString();
+    }
+}
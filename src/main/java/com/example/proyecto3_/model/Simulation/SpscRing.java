@@ -0,0 +1,108 @@
+package com.example.proyecto3_.model.Simulation;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded lock-free queue of non-negative longs for exactly one producer
+ * thread and one consumer thread. Each side only writes its own index and
+ * publishes it with a release store, and keeps a cached copy of the other
+ * side's index so most operations touch no shared counter at all.
+ */
+public class SpscRing {
+
+    /** Returned by poll() when the ring is empty. */
+    public static final long EMPTY = -1L;
+
+    // Failed attempts that busy-spin before backOff() starts yielding
+    private static final int SPINS_BEFORE_YIELD = 64;
+
+    private final long[] buffer;
+    private final int mask;
+
+    // Next slot to read (written by the consumer) and to write (written by the producer)
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+
+    // Each side's last seen value of the other side's index
+    private long cachedHead;
+    private long cachedTail;
+
+    /**
+     * Creates a ring.
+     * @param capacity number of slots, a power of two
+     * @throws IllegalArgumentException if capacity is not a positive power of two
+     */
+    public SpscRing(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two");
+        }
+        this.buffer = new long[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Adds a value if there is room. Producer thread only.
+     * @param value a non-negative value
+     * @return true if added, false if the ring is full
+     */
+    public boolean offer(long value) {
+        long t = tail.get();
+        if (t - cachedHead >= buffer.length) {
+            cachedHead = head.get();
+            if (t - cachedHead >= buffer.length) {
+                return false;
+            }
+        }
+        buffer[(int) t & mask] = value;
+        tail.lazySet(t + 1);
+        return true;
+    }
+
+    /**
+     * Adds a value, waiting while the ring is full. Producer thread only.
+     * @param value a non-negative value
+     */
+    public void put(long value) {
+        for (int idle = 0; !offer(value); idle++) {
+            backOff(idle);
+        }
+    }
+
+    /**
+     * Waits a little after an empty poll or a full offer: spins first, then
+     * yields so the other side can run even when both share one core.
+     * @param idle number of failed attempts so far
+     */
+    public static void backOff(int idle) {
+        if (idle < SPINS_BEFORE_YIELD) {
+            Thread.onSpinWait();
+        } else {
+            Thread.yield();
+        }
+    }
+
+    /**
+     * Takes the oldest value. Consumer thread only.
+     * @return the value, or EMPTY if the ring is empty
+     */
+    public long poll() {
+        long h = head.get();
+        if (h >= cachedTail) {
+            cachedTail = tail.get();
+            if (h >= cachedTail) {
+                return EMPTY;
+            }
+        }
+        long value = buffer[(int) h & mask];
+        head.lazySet(h + 1);
+        return value;
+    }
+
+    /**
+     * Gets the number of slots.
+     * @return the capacity
+     */
+    public int capacity() {
+        return buffer.length;
+    }
+}
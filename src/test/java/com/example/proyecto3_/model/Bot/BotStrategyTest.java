@@ -0,0 +1,134 @@
+package com.example.proyecto3_.model.Bot;
+
+import com.example.proyecto3_.model.Cards.Card;
+import com.example.proyecto3_.model.Cards.PlayabilityIndex;
+import com.example.proyecto3_.model.Game.GameModel;
+import com.example.proyecto3_.model.Player.Player;
+import org.junit.jupiter.api.Test;
+import java.util.SplittableRandom;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the built-in BotStrategy implementations.
+ * Each test plays from the opening position of a seeded game.
+ */
+class BotStrategyTest {
+
+    private static final String[] NAMES = {"first-legal", "min-delta", "max-delta", "keep-negatives", "random-legal"};
+
+    /**
+     * Creates a started two-player game with the given seed.
+     * @param seed the game seed
+     * @return the started game
+     */
+    private GameModel newGame(long seed) {
+        var game = new GameModel(1, seed);
+        game.setVerbose(false);
+        game.start();
+        return game;
+    }
+
+    // ===== selectCard() =====
+
+    @Test
+    void everyStrategyShouldReturnAPlayableCardFromHand() {
+        for (long seed = 0; seed < 50; seed++) {
+            var game = newGame(seed);
+            Player current = game.getCurrentPlayer();
+            for (String name : NAMES) {
+                Card card = BotStrategy.named(name).selectCard(game);
+                assertNotNull(card, name);
+                assertTrue(current.hasCard(card), name);
+                assertTrue(PlayabilityIndex.isLegal(game.getTableSum(), card), name);
+            }
+        }
+    }
+
+    @Test
+    void minDeltaShouldNeverPlayMoreThanMaxDelta() {
+        for (long seed = 0; seed < 50; seed++) {
+            var game = newGame(seed);
+            int sum = game.getTableSum();
+            int min = new MinDeltaStrategy().selectCard(game).getValue(sum);
+            int max = new MaxDeltaStrategy().selectCard(game).getValue(sum);
+            assertTrue(min <= max);
+        }
+    }
+
+    @Test
+    void firstLegalShouldMatchPlayerSelection() {
+        var game = new GameModel(2, 1, new SplittableRandom(3L), false);
+        game.setVerbose(false);
+        game.start();
+        var bot = game.getCurrentPlayer();
+        assertEquals(bot.selectCard(game.getTableSum()), new FirstLegalStrategy().selectCard(game));
+    }
+
+    @Test
+    void randomLegalShouldWeighDuplicateCopies() {
+        for (long seed = 0; seed < 500; seed++) {
+            var game = new GameModel(3, 4, seed);
+            game.setVerbose(false);
+            game.start();
+            int size = game.getHandSize(game.getCurrentPlayerIndex());
+            long playable = game.getPlayableMask();
+            int positions = 0;
+            int duplicate = -1;
+            for (int i = 0; i < size; i++) {
+                int id = game.getCurrentHandCard(i).getId();
+                if ((playable & (1L << id)) != 0) {
+                    positions++;
+                    for (int j = 0; j < i; j++) {
+                        if (game.getCurrentHandCard(j).getId() == id) {
+                            duplicate = id;
+                        }
+                    }
+                }
+            }
+            if (duplicate < 0 || Long.bitCount(playable) == 1) {
+                continue;
+            }
+
+            int copies = 0;
+            for (int i = 0; i < size; i++) {
+                copies += game.getCurrentHandCard(i).getId() == duplicate ? 1 : 0;
+            }
+            var strategy = new RandomLegalStrategy();
+            int picked = 0;
+            int draws = 6000;
+            for (int d = 0; d < draws; d++) {
+                picked += strategy.selectCard(game).getId() == duplicate ? 1 : 0;
+            }
+            assertEquals((double) copies / positions, (double) picked / draws, 0.05);
+            return;
+        }
+        fail("No seed dealt a playable duplicate next to another playable card");
+    }
+
+    @Test
+    void propertyShouldSelectTheStrategy() {
+        String previous = System.getProperty(BotStrategy.PROPERTY);
+        try {
+            System.clearProperty(BotStrategy.PROPERTY);
+            assertInstanceOf(FirstLegalStrategy.class, BotStrategy.fromSystemProperty());
+
+            System.setProperty(BotStrategy.PROPERTY, " min-delta ");
+            assertInstanceOf(MinDeltaStrategy.class, BotStrategy.fromSystemProperty());
+
+            // Unknown names keep the default instead of failing
+            System.setProperty(BotStrategy.PROPERTY, "nope");
+            assertInstanceOf(FirstLegalStrategy.class, BotStrategy.fromSystemProperty());
+        } finally {
+            if (previous == null) {
+                System.clearProperty(BotStrategy.PROPERTY);
+            } else {
+                System.setProperty(BotStrategy.PROPERTY, previous);
+            }
+        }
+    }
+
+    @Test
+    void unknownNameShouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> BotStrategy.named("nope"));
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.proyecto3_.model.Bot;
+
+import com.example.proyecto3_.model.Cards.Card;
+import com.example.proyecto3_.model.Cards.PlayabilityIndex;
+import com.example.proyecto3_.model.Game.GameModel;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the retrograde endgame solver and the table-driven bot.
+ */
+class EndgameSolverTest {
+
+    @TempDir
+    Path dir;
+
+    /**
+     * Solves a small table and writes it to a temporary file.
+     * @param horizon own turns to survive
+     * @return the table file
+     */
+    private Path writeTable(int horizon) throws IOException {
+        EndgameSolver solver = new EndgameSolver(horizon, 1, ForkJoinPool.commonPool());
+        Path file = dir.resolve("endgame-" + horizon + ".bin");
+        try (OutputStream out = Files.newOutputStream(file)) {
+            solver.write(solver.solve(), out);
+        }
+        return file;
+    }
+
+    @Test
+    void handIndexShouldIgnoreCardOrder() {
+        assertEquals(1820, EndgameSolver.HANDS);
+        assertEquals(EndgameSolver.indexOf(3, 12, 0, 7), EndgameSolver.indexOf(12, 7, 3, 0));
+        assertArrayEquals(new int[]{0, 3, 7, 12}, EndgameSolver.ranksOf(EndgameSolver.indexOf(7, 0, 12, 3)));
+    }
+
+    @Test
+    void policyShouldOnlyPickLegalRanksFromTheHand() {
+        byte[] policy = new EndgameSolver(3, 2, ForkJoinPool.commonPool()).solve();
+        for (int s = 0; s < EndgameSolver.SUMS; s++) {
+            int sum = s + EndgameSolver.MIN_SUM;
+            for (int hand = 0; hand < EndgameSolver.HANDS; hand++) {
+                int rank = policy[(2 * EndgameSolver.SUMS + s) * EndgameSolver.HANDS + hand];
+                int[] ranks = EndgameSolver.ranksOf(hand);
+                boolean anyLegal = false;
+                for (int r : ranks) {
+                    anyLegal |= PlayabilityIndex.isLegal(sum, r);
+                }
+                if (!anyLegal) {
+                    assertEquals(EndgameSolver.NO_MOVE, rank);
+                } else {
+                    assertTrue(PlayabilityIndex.isLegal(sum, rank));
+                    assertTrue(rank == ranks[0] || rank == ranks[1] || rank == ranks[2] || rank == ranks[3]);
+                }
+            }
+        }
+    }
+
+    @Test
+    void policyShouldKeepAnEscapeCardNearTheLimit() {
+        // At 48 with three 2s and a King: playing the King throws away the only card that survives 50
+        byte[] policy = new EndgameSolver(2, 1, ForkJoinPool.commonPool()).solve();
+        int hand = EndgameSolver.indexOf(0, 0, 0, 11);
+        int rank = policy[(EndgameSolver.SUMS + EndgameSolver.slotOf(48)) * EndgameSolver.HANDS + hand];
+        assertEquals(0, rank);
+    }
+
+    @Test
+    void tableStrategyShouldPlayLegalCardsFromAMappedFile() throws IOException {
+        var strategy = new EndgameTableStrategy(writeTable(4));
+        assertEquals(4, strategy.getHorizon());
+        assertEquals(1, strategy.getOpponents());
+        for (long seed = 0; seed < 50; seed++) {
+            // One bot and the human, so the table's single opponent matches
+            var game = new GameModel(1, seed);
+            game.setVerbose(false);
+            game.start();
+            Card card = strategy.selectCard(game);
+            if (game.getPlayableMask() == 0) {
+                assertNull(card);
+            } else {
+                assertTrue(game.getCurrentPlayer().hasCard(card));
+                assertTrue(PlayabilityIndex.isLegal(game.getTableSum(), card));
+            }
+        }
+    }
+
+    @Test
+    void moreLiveOpponentsThanSolvedForShouldUseTheFallback() throws IOException {
+        int[] fallbackCalls = new int[1];
+        BotStrategy fallback = new BotStrategy() {
+            @Override
+            public Card selectCard(GameView view) {
+                fallbackCalls[0]++;
+                return new FirstLegalStrategy().selectCard(view);
+            }
+
+            @Override
+            public String getName() {
+                return "counting";
+            }
+        };
+        var strategy = new EndgameTableStrategy(writeTable(3), 0, fallback);
+
+        var headsUp = new GameModel(1, 4L);
+        headsUp.setVerbose(false);
+        headsUp.start();
+        strategy.selectCard(headsUp);
+        assertEquals(0, fallbackCalls[0]);
+
+        var table = new GameModel(3, 4L);
+        table.setVerbose(false);
+        table.start();
+        strategy.selectCard(table);
+        assertEquals(1, fallbackCalls[0]);
+    }
+
+    @Test
+    void namedShouldLoadTheConfiguredTableOrFallBack() throws IOException {
+        String previous = System.getProperty(EndgameTableStrategy.PROPERTY);
+        try {
+            System.setProperty(EndgameTableStrategy.PROPERTY, writeTable(2).toString());
+            BotStrategy loaded = BotStrategy.named("endgame-table");
+            assertInstanceOf(EndgameTableStrategy.class, loaded);
+            assertEquals(2, ((EndgameTableStrategy) loaded).getHorizon());
+
+            System.setProperty(EndgameTableStrategy.PROPERTY, dir.resolve("missing.bin").toString());
+            assertInstanceOf(FirstLegalStrategy.class, BotStrategy.named("endgame-table"));
+        } finally {
+            if (previous == null) {
+                System.clearProperty(EndgameTableStrategy.PROPERTY);
+            } else {
+                System.setProperty(EndgameTableStrategy.PROPERTY, previous);
+            }
+        }
+    }
+
+    @Test
+    void corruptTableShouldBeRejected() throws IOException {
+        Path file = dir.resolve("bad.bin");
+        Files.write(file, new byte[]{1, 2, 3, 4, 5, 6, 7, 8});
+        assertThrows(IOException.class, () -> new EndgameTableStrategy(file));
+    }
+}
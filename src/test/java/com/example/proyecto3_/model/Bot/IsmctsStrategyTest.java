@@ -0,0 +1,179 @@
+package com.example.proyecto3_.model.Bot;
+
+import com.example.proyecto3_.model.Cards.Card;
+import com.example.proyecto3_.model.Cards.PlayabilityIndex;
+import com.example.proyecto3_.model.Game.GameModel;
+import com.example.proyecto3_.model.Simulation.SimulationEngine;
+import com.example.proyecto3_.model.Simulation.SimulationResult;
+import org.junit.jupiter.api.Test;
+import java.util.SplittableRandom;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the information-set MCTS bot and its search state.
+ */
+class IsmctsStrategyTest {
+
+    /**
+     * Creates a started bot-only game with the given seed.
+     * @param players number of seats
+     * @param seed the game seed
+     * @return the started game
+     */
+    private GameModel newGame(int players, long seed) {
+        var game = new GameModel(players, 1, seed);
+        game.setVerbose(false);
+        game.start();
+        return game;
+    }
+
+    @Test
+    void searchShouldReturnAPlayableCardFromHand() {
+        var strategy = new IsmctsStrategy(10_000, 200, new SplittableRandom(1));
+        for (long seed = 0; seed < 20; seed++) {
+            var game = newGame(3, seed);
+            Card card = strategy.selectCard(game);
+            assertNotNull(card);
+            assertTrue(game.getCurrentPlayer().hasCard(card));
+            assertTrue(PlayabilityIndex.isLegal(game.getTableSum(), card));
+        }
+    }
+
+    @Test
+    void searchShouldStopAtTheIterationCap() {
+        var strategy = new IsmctsStrategy(10_000, 300, new SplittableRandom(2));
+        for (long seed = 0; seed < 20; seed++) {
+            strategy.selectCard(newGame(4, seed));
+            int iterations = strategy.getLastIterations();
+            assertTrue(iterations == 0 || iterations == 300, "iterations: " + iterations);
+        }
+    }
+
+    @Test
+    void seededSearchShouldBeReproducible() {
+        for (long seed = 0; seed < 10; seed++) {
+            Card a = new IsmctsStrategy(10_000, 200, new SplittableRandom(seed)).selectCard(newGame(3, seed));
+            Card b = new IsmctsStrategy(10_000, 200, new SplittableRandom(seed)).selectCard(newGame(3, seed));
+            assertEquals(a, b);
+        }
+    }
+
+    @Test
+    void parallelSearchShouldShareTheIterationCapAndStayReproducible() {
+        for (long seed = 0; seed < 10; seed++) {
+            var a = new IsmctsStrategy(10_000, 400, new SplittableRandom(seed), 4);
+            var b = new IsmctsStrategy(10_000, 400, new SplittableRandom(seed), 4);
+            Card cardA = a.selectCard(newGame(3, seed));
+            Card cardB = b.selectCard(newGame(3, seed));
+            assertEquals(cardA, cardB);
+            assertTrue(a.getLastIterations() == 0 || a.getLastIterations() == 400);
+        }
+    }
+
+    @Test
+    void searchesOnFreshThreadsShouldReuseOneTree() throws InterruptedException {
+        IsmctsStrategy.FREE_TREES.clear();
+        var strategy = new IsmctsStrategy(10_000, 100, new SplittableRandom(3));
+        for (long seed = 0; seed < 4; seed++) {
+            var game = newGame(3, seed);
+            // A new thread per move, as a virtual-thread session carrier would be
+            Thread thread = new Thread(() -> strategy.selectCard(game));
+            thread.start();
+            thread.join();
+        }
+        assertEquals(1, IsmctsStrategy.FREE_TREES.size());
+    }
+
+    @Test
+    void knockOutsShouldGetTheirOwnNodeInTheTree() {
+        var tree = new IsmctsStrategy.SearchTree();
+        for (long seed = 0; seed < 50; seed++) {
+            var engine = new SimulationEngine(5, 1, new SplittableRandom(seed));
+            var game = engine.newGame();
+            while (!game.isGameOver()) {
+                if (game.getTableSum() >= 35 && game.getPlayableMask() != 0) {
+                    tree.search(game, new SplittableRandom(seed), Long.MAX_VALUE, 2000);
+                    if (checkSeats(tree, game.getCurrentPlayerIndex())) {
+                        return;
+                    }
+                }
+                engine.playTurn(game);
+            }
+        }
+        fail("No search knocked a seat out inside the tree");
+    }
+
+    /**
+     * Checks that the children of every node belong to the seat that acts
+     * there: the current seat at the root, never a seat just knocked out.
+     * @param tree the tree of the last search
+     * @param rootSeat the seat to move at the root
+     * @return true if the tree has at least one elimination node
+     */
+    private static boolean checkSeats(IsmctsStrategy.SearchTree tree, int rootSeat) {
+        boolean knockOut = false;
+        for (int node = 0; node < tree.nodeCount; node++) {
+            int first = tree.firstChild[node];
+            if (first < 0) {
+                continue;
+            }
+            int seat = tree.player[first];
+            if (node == 0) {
+                assertEquals(rootSeat, seat);
+            }
+            if (tree.move[node] == IsmctsStrategy.ELIMINATED) {
+                knockOut = true;
+                assertNotEquals(tree.player[node], seat);
+            }
+            for (int child = first; child >= 0; child = tree.nextSibling[child]) {
+                assertEquals(seat, tree.player[child], "children of node " + node);
+            }
+        }
+        return knockOut;
+    }
+
+    @Test
+    void determinizationShouldKeepEveryCardOfTheShoe() {
+        var game = newGame(4, 7);
+        var state = new SearchState(game.getNumPlayers(), game.getShoeSize());
+        state.determinize(game, new SplittableRandom(3));
+
+        int total = state.deckSize + 1;
+        for (int r = 0; r < Card.RANK_COUNT; r++) {
+            total += state.pileCounts[r];
+            for (int seat = 0; seat < state.numPlayers; seat++) {
+                total += state.hands[seat * Card.RANK_COUNT + r];
+            }
+        }
+        assertEquals(game.getShoeSize(), total);
+        for (int seat = 0; seat < state.numPlayers; seat++) {
+            assertEquals(game.getHandSize(seat), state.handSizes[seat]);
+        }
+    }
+
+    @Test
+    void rolloutShouldFinishWithAnActiveWinner() {
+        var game = newGame(4, 11);
+        var state = new SearchState(game.getNumPlayers(), game.getShoeSize());
+        var random = new SplittableRandom(5);
+        for (int i = 0; i < 100; i++) {
+            state.determinize(game, random);
+            int winner = state.rollout(random);
+            if (winner >= 0) {
+                assertTrue(state.active[winner]);
+                assertTrue(state.isTerminal());
+            }
+        }
+    }
+
+    @Test
+    void searchBotShouldBeatARandomBotInSelfPlay() {
+        BotStrategy[] strategies = {
+                new IsmctsStrategy(10_000, 200, new SplittableRandom(9)),
+                BotStrategy.named("random-legal")
+        };
+        SimulationResult result = new SimulationEngine(2, 1, new SplittableRandom(4), strategies).run(60);
+        assertTrue(result.getWins(0) > result.getWins(1),
+                "wins: " + result.getWins(0) + " vs " + result.getWins(1));
+    }
+}
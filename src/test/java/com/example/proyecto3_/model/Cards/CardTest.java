@@ -47,6 +47,35 @@ class CardTest {
         assertEquals(1, card.getValue(45)); // 45 + 10 > 50
     }
 
+    @Test
+    void aceShouldBeTenAtFortyAndOneAtFortyOne() {
+        var card = new Card("A", "Spades");
+        assertEquals(10, card.getValue(40));
+        assertEquals(1, card.getValue(41));
+    }
+
+    @Test
+    void negativeSumShouldKeepRegularValues() {
+        assertEquals(10, new Card("A", "Clubs").getValue(-20));
+        assertEquals(-10, new Card("K", "Clubs").getValue(-20));
+    }
+
+    // ===== getId() =====
+
+    @Test
+    void idShouldEncodeSuitAndRank() {
+        var card = new Card("A", "Spades");
+        assertEquals(51, card.getId());
+        assertEquals(12, card.getRankIndex());
+        assertEquals(3, card.getSuitIndex());
+        assertEquals(0, new Card("2", "Hearts").getId());
+    }
+
+    @Test
+    void unknownRankShouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> new Card("1", "Hearts"));
+    }
+
     // ===== toString() =====
 
     @Test
@@ -55,13 +84,26 @@ class CardTest {
         assertEquals("7 of Clubs", card.toString());
     }
 
-    // ===== setFaceUp() / isFaceUp() =====
+    // ===== of() / universe() =====
 
     @Test
-    void faceUpShouldChangeStateCorrectly() {
+    void ofShouldReturnCanonicalInstance() {
+        assertSame(Card.of("K", "Spades"), Card.of(Card.of("K", "Spades").getId()));
+    }
+
+    @Test
+    void newCardShouldEqualCanonicalCard() {
         var card = new Card("K", "Spades");
-        assertFalse(card.isFaceUp()); // Default should be false
-        card.setFaceUp(true);
-        assertTrue(card.isFaceUp());
+        assertEquals(Card.of("K", "Spades"), card);
+        assertEquals(Card.of("K", "Spades").hashCode(), card.hashCode());
+    }
+
+    @Test
+    void universeShouldContainFiftyTwoCardsInIdOrder() {
+        var universe = Card.universe();
+        assertEquals(52, universe.size());
+        for (int id = 0; id < universe.size(); id++) {
+            assertEquals(id, universe.get(id).getId());
+        }
     }
 }
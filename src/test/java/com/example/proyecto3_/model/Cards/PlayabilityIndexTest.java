@@ -0,0 +1,55 @@
+package com.example.proyecto3_.model.Cards;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the PlayabilityIndex class.
+ * Each test checks the lookup tables against the card rules.
+ */
+class PlayabilityIndexTest {
+
+    // ===== isLegal() =====
+
+    @Test
+    void everyRankShouldBeLegalAtForty() {
+        for (int rank = 0; rank < Card.RANK_COUNT; rank++) {
+            assertTrue(PlayabilityIndex.isLegal(40, rank));
+        }
+    }
+
+    @Test
+    void tenShouldBeIllegalAtFortyFive() {
+        assertFalse(PlayabilityIndex.isLegal(45, Card.of("10", "Hearts")));
+        assertTrue(PlayabilityIndex.isLegal(45, Card.of("5", "Hearts")));
+    }
+
+    @Test
+    void onlyNegativeCardsShouldBeLegalAboveFifty() {
+        int kingMask = 1 << Card.rankIndexOf("K");
+        assertNotEquals(0, PlayabilityIndex.legalRankMask(55) & kingMask);
+        assertEquals(0, PlayabilityIndex.legalRankMask(55) & (1 << Card.rankIndexOf("2")));
+        assertEquals(0, PlayabilityIndex.legalRankMask(100));
+    }
+
+    // ===== delta() / resultingSum() =====
+
+    @Test
+    void tablesShouldMatchCardValues() {
+        for (int sum = -20; sum <= 50; sum++) {
+            for (Card card : Card.universe()) {
+                int rank = card.getRankIndex();
+                assertEquals(card.getValue(sum), PlayabilityIndex.delta(sum, rank));
+                assertEquals(sum + card.getValue(sum), PlayabilityIndex.resultingSum(sum, rank));
+                assertEquals(sum + card.getValue(sum) <= 50, PlayabilityIndex.isLegal(sum, rank));
+            }
+        }
+    }
+
+    @Test
+    void sumsBelowTheIndexShouldStillAddUp() {
+        int jack = Card.rankIndexOf("J");
+        assertEquals(-510, PlayabilityIndex.resultingSum(-500, jack));
+        assertTrue(PlayabilityIndex.isLegal(-500, Card.ACE));
+    }
+}
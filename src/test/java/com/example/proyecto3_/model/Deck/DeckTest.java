@@ -52,6 +52,37 @@ class DeckTest {
         assertNotEquals(before.toString(), after.toString());
     }
 
+    @Test
+    void shuffleShouldKeepTheSameCards() {
+        var deck = new Deck();
+        Set<Card> before = new HashSet<>(deck.getCards());
+        deck.shuffle();
+        assertEquals(before, new HashSet<>(deck.getCards()));
+        assertEquals(52, deck.size());
+    }
+
+    @Test
+    void sameSeedShouldProduceSameOrder() {
+        var first = new Deck(42L);
+        var second = new Deck(42L);
+        assertEquals(first.getCards(), second.getCards());
+        first.shuffle();
+        second.shuffle();
+        assertEquals(first.getCards(), second.getCards());
+    }
+
+    // ===== addCards() =====
+
+    @Test
+    void addCardsShouldGrowPastOneDeckAndKeepOrder() {
+        var deck = new Deck();
+        var extra = List.of(Card.of("2", "Hearts"), Card.of("A", "Spades"));
+        deck.addCards(extra);
+        assertEquals(54, deck.size());
+        assertEquals(Card.of("A", "Spades"), deck.drawCard());
+        assertEquals(Card.of("2", "Hearts"), deck.drawCard());
+    }
+
     // ===== isEmpty() =====
 
     @Test
@@ -79,4 +110,34 @@ class DeckTest {
         deck.drawCard();
         assertEquals(initial - 2, deck.size());
     }
+
+    // ===== recycleFrom() =====
+
+    @Test
+    void recycleFromShouldMoveAllButTopCard() {
+        var deck = new Deck(7L);
+        var pile = new TablePile();
+        while (!deck.isEmpty()) {
+            pile.addCard(deck.drawCard());
+        }
+        Card top = pile.getTopCard();
+
+        assertEquals(51, deck.recycleFrom(pile));
+        assertEquals(51, deck.size());
+        assertEquals(1, pile.size());
+        assertEquals(top, pile.getTopCard());
+        assertFalse(deck.getCards().contains(top));
+    }
+
+    @Test
+    void recycleFromShouldAppendWhenDeckIsNotEmpty() {
+        var deck = new Deck(7L);
+        var pile = new TablePile();
+        for (int i = 0; i < 10; i++) {
+            pile.addCard(deck.drawCard());
+        }
+        assertEquals(9, deck.recycleFrom(pile));
+        assertEquals(51, deck.size());
+        assertEquals(1, pile.size());
+    }
 }
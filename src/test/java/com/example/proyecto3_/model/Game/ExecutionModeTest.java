@@ -0,0 +1,88 @@
+package com.example.proyecto3_.model.Game;
+
+import com.example.proyecto3_.model.Bot.FirstLegalStrategy;
+import com.example.proyecto3_.model.Cards.Card;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the ExecutionMode enum.
+ */
+class ExecutionModeTest {
+
+    @Test
+    void virtualShouldFallBackOnlyWithoutSupport() {
+        assertEquals(ExecutionMode.PLATFORM, ExecutionMode.PLATFORM.resolve());
+        ExecutionMode expected = ExecutionMode.isVirtualSupported() ? ExecutionMode.VIRTUAL : ExecutionMode.PLATFORM;
+        assertEquals(expected, ExecutionMode.VIRTUAL.resolve());
+    }
+
+    @Test
+    void propertyShouldSelectTheMode() {
+        String previous = System.getProperty(ExecutionMode.PROPERTY);
+        try {
+            System.setProperty(ExecutionMode.PROPERTY, "platform");
+            assertEquals(ExecutionMode.PLATFORM, ExecutionMode.fromSystemProperty());
+
+            System.setProperty(ExecutionMode.PROPERTY, "Virtual");
+            assertEquals(ExecutionMode.VIRTUAL.resolve(), ExecutionMode.fromSystemProperty());
+
+            // Unknown names keep the default instead of failing
+            System.setProperty(ExecutionMode.PROPERTY, "hilos");
+            assertEquals(ExecutionMode.VIRTUAL.resolve(), ExecutionMode.fromSystemProperty());
+        } finally {
+            if (previous == null) {
+                System.clearProperty(ExecutionMode.PROPERTY);
+            } else {
+                System.setProperty(ExecutionMode.PROPERTY, previous);
+            }
+        }
+    }
+
+    @Test
+    void executorsShouldRunTasksOnNamedThreads() throws Exception {
+        for (ExecutionMode mode : ExecutionMode.values()) {
+            ExecutorService executor = mode.newExecutor("Prueba-", 2);
+            try {
+                String name = executor.submit(() -> Thread.currentThread().getName()).get();
+                assertTrue(name.startsWith("Prueba-"), name);
+            } finally {
+                executor.shutdown();
+            }
+        }
+    }
+
+    @Test
+    void sessionsShouldPlayTheSameInEveryMode() {
+        int[] turns = new int[ExecutionMode.values().length];
+        for (ExecutionMode mode : ExecutionMode.values()) {
+            GameSessionManager manager = new GameSessionManager(mode, 2);
+            try {
+                assertEquals(mode.resolve(), manager.getExecutionMode());
+                GameSession session = manager.createSession("mesa");
+                session.setVerbose(false);
+                session.start(3, 11L);
+                GameModel game = session.getGame();
+                while (!session.isGameOver()) {
+                    if (game.getCurrentPlayer().isMachine()) {
+                        session.runMachineTurnsAsync(new FirstLegalStrategy(), 1000).join();
+                    } else if (session.canCurrentPlayerPlay()) {
+                        session.playCard(Card.of(Long.numberOfTrailingZeros(game.getPlayableMask())));
+                        session.drawCard();
+                        session.completeTurn();
+                    } else {
+                        session.eliminateCurrentPlayer();
+                        session.completeTurn();
+                    }
+                }
+                turns[mode.ordinal()] = game.getStats().getTotalTurns();
+            } finally {
+                manager.shutdown();
+            }
+        }
+        assertEquals(turns[0], turns[1]);
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.proyecto3_.model.Game;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the GameActor class.
+ */
+class GameActorTest {
+
+    private final ExecutorService carrier = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    void tearDown() {
+        carrier.shutdownNow();
+    }
+
+    @Test
+    void commandsShouldRunOneAtATimeInArrivalOrder() throws Exception {
+        GameActor actor = new GameActor(carrier);
+        int producers = 4;
+        int perProducer = 5000;
+        int[] lastSeen = new int[producers];
+        AtomicInteger inside = new AtomicInteger();
+        AtomicInteger overlaps = new AtomicInteger();
+        AtomicInteger outOfOrder = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(producers * perProducer);
+
+        Thread[] threads = new Thread[producers];
+        for (int p = 0; p < producers; p++) {
+            int producer = p;
+            threads[p] = new Thread(() -> {
+                for (int i = 1; i <= perProducer; i++) {
+                    int value = i;
+                    actor.execute(() -> {
+                        if (inside.incrementAndGet() != 1) {
+                            overlaps.incrementAndGet();
+                        }
+                        // Plain array: only safe because commands never overlap
+                        if (lastSeen[producer] != value - 1) {
+                            outOfOrder.incrementAndGet();
+                        }
+                        lastSeen[producer] = value;
+                        inside.decrementAndGet();
+                        done.countDown();
+                    });
+                }
+            });
+            threads[p].start();
+        }
+        for (Thread t : threads) {
+            t.join();
+        }
+
+        assertTrue(done.await(30, TimeUnit.SECONDS));
+        assertEquals(0, overlaps.get());
+        assertEquals(0, outOfOrder.get());
+        int[] seen = actor.callAndWait(lastSeen::clone);
+        for (int p = 0; p < producers; p++) {
+            assertEquals(perProducer, seen[p]);
+        }
+    }
+
+    @Test
+    void callFromTheOwnerThreadShouldRunInline() {
+        ExecutorService single = Executors.newSingleThreadExecutor();
+        try {
+            GameActor actor = new GameActor(single);
+            // Would deadlock on the single carrier thread if the nested call were queued
+            int result = actor.ask(() -> actor.isOwnerThread() ? actor.callAndWait(() -> 41) + 1 : -1).join();
+            assertEquals(42, result);
+            assertFalse(actor.isOwnerThread());
+        } finally {
+            single.shutdownNow();
+        }
+    }
+
+    @Test
+    void waitingForAnotherActorFromACommandShouldFailFast() {
+        ExecutorService single = Executors.newSingleThreadExecutor();
+        try {
+            GameActor first = new GameActor(single);
+            GameActor second = new GameActor(single);
+            // On one carrier thread this wait could never end, so it must throw instead
+            CompletableFuture<Integer> nested = first.ask(() -> second.callAndWait(() -> 1));
+            CompletionException e = assertThrows(CompletionException.class, nested::join);
+            assertInstanceOf(IllegalStateException.class, e.getCause());
+
+            // Asking without waiting is still allowed, and the carrier is free again
+            assertEquals(2, first.ask(() -> second.ask(() -> 2)).join().join());
+            assertEquals(3, second.callAndWait(() -> 3));
+        } finally {
+            single.shutdownNow();
+        }
+    }
+
+    @Test
+    void failuresShouldReachTheCaller() {
+        GameActor actor = new GameActor(carrier);
+        CompletableFuture<Integer> failed = actor.ask(() -> {
+            throw new IllegalStateException("fallo");
+        });
+        assertThrows(Exception.class, failed::join);
+        assertTrue(failed.isCompletedExceptionally());
+
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> actor.callAndWait(() -> {
+                    throw new IllegalStateException("fallo");
+                }));
+        assertEquals("fallo", e.getMessage());
+
+        // The mailbox keeps working after a failed command
+        assertEquals(7, actor.callAndWait(() -> 7));
+    }
+
+    @Test
+    void manyActorsShouldShareOneCarrierThread() {
+        ExecutorService single = Executors.newSingleThreadExecutor();
+        try {
+            int actors = 100;
+            int commands = 500;
+            int[] counts = new int[actors];
+            List<CompletableFuture<Integer>> results = new ArrayList<>();
+            for (int a = 0; a < actors; a++) {
+                GameActor actor = new GameActor(single);
+                int index = a;
+                for (int c = 0; c < commands; c++) {
+                    actor.execute(() -> counts[index]++);
+                }
+                results.add(actor.ask(() -> counts[index]));
+            }
+            for (CompletableFuture<Integer> result : results) {
+                assertEquals(commands, result.join());
+            }
+        } finally {
+            single.shutdownNow();
+        }
+    }
+}
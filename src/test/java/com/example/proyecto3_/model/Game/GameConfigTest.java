@@ -0,0 +1,88 @@
+package com.example.proyecto3_.model.Game;
+
+import com.example.proyecto3_.model.Cards.Card;
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the GameConfig class.
+ * GameConfig is a singleton, so every test starts a fresh seeded game.
+ */
+class GameConfigTest {
+
+    /**
+     * Starts a new seeded game with three bots.
+     * @param seed the game seed
+     * @return the configuration holding the game
+     */
+    private GameConfig newGame(long seed) {
+        GameConfig config = GameConfig.getInstance();
+        config.setNumBots(3);
+        config.setSeed(seed);
+        config.setVerbose(false);
+        config.initializeGame();
+        return config;
+    }
+
+    // ===== runMachineTurns() =====
+
+    @Test
+    void batchShouldNotMoveForTheHuman() {
+        GameConfig config = newGame(1L);
+        assertFalse(config.getGame().getCurrentPlayer().isMachine());
+        assertTrue(config.runMachineTurns(100).isEmpty());
+    }
+
+    @Test
+    void batchShouldPlayEveryBotUntilTheHumanIsBack() {
+        for (long seed = 0; seed < 20; seed++) {
+            GameConfig config = newGame(seed);
+            GameModel game = config.getGame();
+            if (!config.canCurrentPlayerPlay()) {
+                continue;
+            }
+            Card card = Card.of(Long.numberOfTrailingZeros(game.getPlayableMask()));
+            assertTrue(config.playCard(card));
+            assertTrue(config.drawCard());
+            config.completeTurn();
+
+            int turnsBefore = game.getStats().getTotalTurns();
+            List<GameSession.TurnEvent> events = config.runMachineTurns(100);
+
+            assertTrue(events.size() <= 3);
+            assertEquals(turnsBefore + events.size(), game.getStats().getTotalTurns());
+            assertTrue(game.isGameOver() || !game.getCurrentPlayer().isMachine());
+            for (int i = 0; i < events.size(); i++) {
+                assertEquals(i + 1, events.get(i).getSeat());
+            }
+            if (!events.isEmpty()) {
+                assertEquals(game.getTableSum(), events.get(events.size() - 1).getTableSum());
+            }
+        }
+    }
+
+    @Test
+    void batchShouldStopAtTheTurnLimit() {
+        for (long seed = 0; seed < 20; seed++) {
+            GameConfig config = newGame(seed);
+            GameModel game = config.getGame();
+            if (!config.canCurrentPlayerPlay()) {
+                continue;
+            }
+            config.playCard(Card.of(Long.numberOfTrailingZeros(game.getPlayableMask())));
+            config.drawCard();
+            config.completeTurn();
+
+            List<GameSession.TurnEvent> events = config.runMachineTurns(1);
+            assertEquals(1, events.size());
+            assertEquals(1, events.get(0).getSeat());
+            if (!game.isGameOver()) {
+                assertEquals(2, game.getCurrentPlayerIndex());
+                assertTrue(game.getCurrentPlayer().isMachine());
+            }
+            return;
+        }
+        fail("No seed gave the human a playable card");
+    }
+}
@@ -0,0 +1,225 @@
+package com.example.proyecto3_.model.Game;
+
+import com.example.proyecto3_.model.Cards.Card;
+import com.example.proyecto3_.model.Cards.PlayabilityIndex;
+import com.example.proyecto3_.model.Simulation.SimulationEngine;
+import org.junit.jupiter.api.Test;
+import java.util.SplittableRandom;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the GameModel class.
+ * Each test validates a specific game setup or rule.
+ */
+class GameModelTest {
+
+    // ===== constructor =====
+
+    @Test
+    void largeTableShouldDealEveryHandFromAShoe() {
+        var game = new GameModel(15, 2, 11L);
+        game.start();
+        assertEquals(16, game.getPlayers().size());
+        for (var player : game.getPlayers()) {
+            assertEquals(GameModel.CARDS_PER_HAND, player.getHand().size());
+        }
+        assertEquals(2 * 52 - 16 * 4 - 1, game.getDeckSize());
+    }
+
+    @Test
+    void tooManyPlayersForOneDeckShouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> new GameModel(15, 1, 11L));
+    }
+
+    @Test
+    void moreThanSixteenPlayersShouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> new GameModel(16, 4, 11L));
+    }
+
+    // ===== seed =====
+
+    @Test
+    void sameSeedShouldDealSameHands() {
+        var first = new GameModel(3, 99L);
+        var second = new GameModel(3, 99L);
+        first.start();
+        second.start();
+        for (int seat = 0; seat < 4; seat++) {
+            assertEquals(first.getPlayers().get(seat).getHand(), second.getPlayers().get(seat).getHand());
+        }
+        assertEquals(first.getTopCard(), second.getTopCard());
+    }
+
+    // ===== position hash =====
+
+    @Test
+    void incrementalHashShouldMatchRecomputedHashThroughoutAGame() {
+        for (long seed = 0; seed < 20; seed++) {
+            var engine = new SimulationEngine(6, 2, new SplittableRandom(seed));
+            var game = engine.newGame();
+            assertEquals(game.recomputePositionHash(), game.getPositionHash());
+            for (int turn = 0; turn < 2000 && !game.isGameOver(); turn++) {
+                engine.playTurn(game);
+                assertEquals(game.recomputePositionHash(), game.getPositionHash(), "seed " + seed + ", turn " + turn);
+            }
+        }
+    }
+
+    @Test
+    void sameSeedShouldGiveSamePositionHash() {
+        var first = new GameModel(3, 5L);
+        var second = new GameModel(3, 5L);
+        var other = new GameModel(3, 6L);
+        first.start();
+        second.start();
+        other.start();
+        assertEquals(first.getPositionHash(), second.getPositionHash());
+        assertNotEquals(first.getPositionHash(), other.getPositionHash());
+    }
+
+    @Test
+    void playingACardShouldChangeTheHash() {
+        var game = new GameModel(3, 5L);
+        game.setVerbose(false);
+        game.start();
+        long before = game.getPositionHash();
+        long handBefore = game.getHandHash(0);
+        new SimulationEngine(4, 1, 5L).playTurn(game);
+        assertNotEquals(before, game.getPositionHash());
+        assertNotEquals(handBefore, game.getHandHash(0));
+    }
+
+    // ===== card tracker =====
+
+    @Test
+    void trackerShouldAccountForEveryCardThroughoutAGame() {
+        for (long seed = 0; seed < 20; seed++) {
+            var engine = new SimulationEngine(5, 2, new SplittableRandom(seed));
+            var game = engine.newGame();
+            for (int turn = 0; turn < 2000 && !game.isGameOver(); turn++) {
+                engine.playTurn(game);
+
+                int deckTotal = 0;
+                double probability = 0.0;
+                for (int r = 0; r < Card.RANK_COUNT; r++) {
+                    int inHands = 0;
+                    for (var player : game.getPlayers()) {
+                        inHands += player.getHandMask().rankCount(r);
+                    }
+                    assertEquals(2 * Card.SUIT_COUNT,
+                            game.getDeckRankCount(r) + game.getTableRankCount(r) + inHands,
+                            "seed " + seed + ", turn " + turn + ", rank " + r);
+                    deckTotal += game.getDeckRankCount(r);
+                    probability += game.getDrawProbability(r);
+                }
+                assertEquals(game.getDeckSize(), deckTotal);
+                assertEquals(game.getDeckSize(), game.getCardTracker().getDeckSize());
+                if (game.getDeckSize() > 0) {
+                    assertEquals(1.0, probability, 1e-9);
+                }
+            }
+        }
+    }
+
+    // ===== getLegalHandPositions() =====
+
+    @Test
+    void legalHandPositionsShouldMatchPerCardChecksThroughoutAGame() {
+        for (long seed = 0; seed < 20; seed++) {
+            var engine = new SimulationEngine(4, 1, new SplittableRandom(seed));
+            GameModel game = engine.newGame();
+            while (!game.isGameOver()) {
+                for (int seat = 0; seat < game.getPlayers().size(); seat++) {
+                    var hand = game.getPlayers().get(seat).getHand();
+                    var legal = game.getLegalHandPositions(seat);
+                    for (int i = 0; i < hand.size(); i++) {
+                        assertEquals(PlayabilityIndex.isLegal(game.getTableSum(), hand.get(i)), legal.get(i));
+                    }
+                    assertTrue(legal.length() <= hand.size());
+                }
+                engine.playTurn(game);
+            }
+        }
+    }
+
+    // ===== getSnapshot() =====
+
+    /**
+     * Checks that a snapshot shows exactly the live state of a game.
+     * @param game the live game
+     * @param snapshot the snapshot to check
+     */
+    private static void assertSnapshotMatches(GameModel game, GameSnapshot snapshot) {
+        assertEquals(game.getTableSum(), snapshot.getTableSum());
+        assertEquals(game.getTopCard(), snapshot.getTopCard());
+        assertEquals(game.getCurrentPlayerIndex(), snapshot.getCurrentSeat());
+        assertEquals(game.getDeckSize(), snapshot.getDeckSize());
+        assertEquals(game.isGameOver(), snapshot.isGameOver());
+        assertEquals(game.getPlayableMask() != 0, snapshot.canCurrentPlayerPlay());
+        assertEquals(game.isGameOver() ? game.getPlayers().indexOf(game.getWinner()) : -1, snapshot.getWinnerSeat());
+        assertEquals(game.getStats().getTotalTurns(), snapshot.getTotalTurns());
+        assertEquals(game.getStats().getCardsPlayed(), snapshot.getCardsPlayed());
+        assertEquals(game.getStats().getPlayersEliminated(), snapshot.getPlayersEliminated());
+        for (int seat = 0; seat < game.getPlayers().size(); seat++) {
+            var player = game.getPlayers().get(seat);
+            assertEquals(player.getName(), snapshot.getPlayerName(seat));
+            assertEquals(player.isMachine(), snapshot.isMachine(seat));
+            assertEquals(player.isEliminated(), snapshot.isEliminated(seat));
+            assertEquals(player.getHand(), snapshot.getHand(seat));
+        }
+    }
+
+    @Test
+    void snapshotShouldFollowEveryChangeThroughoutAGame() {
+        for (long seed = 0; seed < 20; seed++) {
+            var engine = new SimulationEngine(4, 1, new SplittableRandom(seed));
+            var game = new GameModel(4, 1, new SplittableRandom(seed), false);
+            game.setVerbose(false);
+            game.start();
+            long version = -1;
+            while (!game.isGameOver() && game.getStats().getTotalTurns() < 500) {
+                GameSnapshot snapshot = game.getSnapshot();
+                assertSnapshotMatches(game, snapshot);
+                assertTrue(snapshot.getVersion() > version);
+                version = snapshot.getVersion();
+                engine.playTurn(game);
+            }
+            assertSnapshotMatches(game, game.getSnapshot());
+        }
+    }
+
+    @Test
+    void oldSnapshotsShouldNotChange() throws Exception {
+        var game = new GameModel(3, 5L);
+        game.setVerbose(false);
+        game.start();
+        GameSnapshot before = game.getSnapshot();
+        var handBefore = before.getHand(0);
+        int sumBefore = before.getTableSum();
+
+        Card card = Card.of(Long.numberOfTrailingZeros(game.getPlayableMask()));
+        game.playCard(card);
+        game.drawCard();
+        game.nextTurn();
+
+        assertEquals(handBefore, before.getHand(0));
+        assertEquals(sumBefore, before.getTableSum());
+        assertNotSame(before, game.getSnapshot());
+        assertThrows(UnsupportedOperationException.class, () -> before.getHand(0).clear());
+    }
+
+    @Test
+    void disabledPublishingShouldKeepTheLastSnapshot() throws Exception {
+        var game = new GameModel(3, 5L);
+        game.setVerbose(false);
+        game.start();
+        game.setPublishSnapshots(false);
+        GameSnapshot last = game.getSnapshot();
+
+        game.playCard(Card.of(Long.numberOfTrailingZeros(game.getPlayableMask())));
+        assertSame(last, game.getSnapshot());
+
+        game.setPublishSnapshots(true);
+        assertSnapshotMatches(game, game.getSnapshot());
+    }
+}
@@ -0,0 +1,189 @@
+package com.example.proyecto3_.model.Game;
+
+import com.example.proyecto3_.model.Bot.FirstLegalStrategy;
+import com.example.proyecto3_.model.Cards.Card;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the GameSessionManager class.
+ */
+class GameSessionManagerTest {
+
+    private final GameSessionManager manager = new GameSessionManager(2);
+
+    @AfterEach
+    void tearDown() {
+        manager.shutdown();
+    }
+
+    /**
+     * Opens and starts a quiet three-bot session.
+     * @param id the session id
+     * @param seed the game seed
+     * @return the started session
+     */
+    private GameSession startSession(String id, long seed) {
+        GameSession session = manager.createSession(id);
+        session.setVerbose(false);
+        session.start(3, seed);
+        return session;
+    }
+
+    /**
+     * Plays a session to the end: the human plays its first legal card, the bots play in batches.
+     * @param session the session to play
+     * @return total turns played
+     */
+    private static int playOut(GameSession session) {
+        FirstLegalStrategy strategy = new FirstLegalStrategy();
+        GameModel game = session.getGame();
+        while (!session.isGameOver()) {
+            if (game.getCurrentPlayer().isMachine()) {
+                session.runMachineTurns(strategy, 1000);
+            } else if (session.canCurrentPlayerPlay()) {
+                assertTrue(session.playCard(Card.of(Long.numberOfTrailingZeros(game.getPlayableMask()))));
+                assertTrue(session.drawCard());
+                session.completeTurn();
+            } else {
+                session.eliminateCurrentPlayer();
+                session.completeTurn();
+            }
+        }
+        return game.getStats().getTotalTurns();
+    }
+
+    @Test
+    void duplicateIdsShouldBeRejected() {
+        GameSession session = manager.createSession("mesa");
+        assertEquals("mesa", session.getId());
+        assertSame(session, manager.getSession("mesa"));
+        assertSame(session, manager.getOrCreateSession("mesa"));
+        assertThrows(IllegalArgumentException.class, () -> manager.createSession("mesa"));
+    }
+
+    @Test
+    void closedSessionsShouldBeForgotten() {
+        manager.createSession("a");
+        manager.createSession();
+        assertEquals(2, manager.getSessionCount());
+        assertNotNull(manager.closeSession("a"));
+        assertNull(manager.getSession("a"));
+        assertNull(manager.closeSession("a"));
+        assertEquals(1, manager.getSessionCount());
+    }
+
+    @Test
+    void turnFlagsShouldBelongToOneSession() {
+        for (long seed = 0; seed < 20; seed++) {
+            GameSession a = startSession("a" + seed, seed);
+            GameSession b = startSession("b" + seed, seed);
+            if (!a.canCurrentPlayerPlay()) {
+                continue;
+            }
+            assertTrue(a.playCard(Card.of(Long.numberOfTrailingZeros(a.getGame().getPlayableMask()))));
+            assertTrue(a.hasHumanPlayedCard());
+            assertFalse(b.hasHumanPlayedCard());
+            assertFalse(b.drawCard());
+            assertTrue(a.drawCard());
+            assertTrue(a.isHumanTurnComplete());
+            assertFalse(b.isHumanTurnComplete());
+            return;
+        }
+        fail("No seed gave the human a playable card");
+    }
+
+    @Test
+    void handValidationShouldMatchPerCardValidation() throws Exception {
+        for (long seed = 0; seed < 20; seed++) {
+            GameSession session = startSession("mano" + seed, seed);
+            GameModel game = session.getGame();
+            List<Card> hand = game.getPlayers().get(0).getHand();
+
+            BitSet playable = session.validateHand(0);
+            for (int i = 0; i < hand.size(); i++) {
+                assertEquals(session.validateMoveAsync(hand.get(i)).get(), playable.get(i));
+            }
+            assertTrue(session.validateHand(1).isEmpty(), "Not the bot's turn");
+
+            if (!playable.isEmpty()) {
+                assertTrue(session.playCard(hand.get(playable.nextSetBit(0))));
+                assertTrue(session.validateHandAsync(0).join().isEmpty(), "Already played this turn");
+            }
+        }
+    }
+
+    @Test
+    void concurrentSessionsShouldPlayLikeSequentialOnes() throws Exception {
+        int tables = 100;
+        int[] expected = new int[tables];
+        for (int i = 0; i < tables; i++) {
+            expected[i] = playOut(startSession("secuencial-" + i, i));
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < tables; i++) {
+                GameSession session = startSession("concurrente-" + i, i);
+                results.add(pool.submit(() -> playOut(session)));
+            }
+            for (int i = 0; i < tables; i++) {
+                assertEquals(expected[i], results.get(i).get());
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        assertEquals(2 * tables, manager.getSessionCount());
+    }
+
+    @Test
+    void quietSessionsShouldDealQuietGames() {
+        GameSession session = startSession("silencio", 1L);
+        assertFalse(session.getGame().isVerbose());
+        session.setVerbose(true);
+        session.start(3, 2L);
+        assertTrue(session.getGame().isVerbose());
+    }
+
+    @Test
+    void asyncHumanTurnShouldPlayLikeTheBlockingOne() {
+        for (long seed = 0; seed < 20; seed++) {
+            GameSession blocking = startSession("bloqueante" + seed, seed);
+            GameSession async = startSession("asincrona" + seed, seed);
+            GameSnapshot snapshot = async.getSnapshot();
+            assertEquals(blocking.canCurrentPlayerPlay(), snapshot.canCurrentPlayerPlay());
+            if (!snapshot.canCurrentPlayerPlay()) {
+                continue;
+            }
+
+            Card card = Card.of(Long.numberOfTrailingZeros(blocking.getGame().getPlayableMask()));
+            assertTrue(blocking.playCard(card));
+            assertTrue(blocking.drawCard());
+            blocking.completeTurn();
+
+            // Queued back to back: the mailbox keeps them in order
+            async.playCardAsync(card);
+            async.drawCardAsync();
+            async.completeTurnAsync().join();
+
+            snapshot = async.getSnapshot();
+            GameSnapshot expected = blocking.getSnapshot();
+            assertEquals(expected.getCurrentSeat(), snapshot.getCurrentSeat());
+            assertEquals(expected.getTableSum(), snapshot.getTableSum());
+            assertEquals(expected.getHand(0), snapshot.getHand(0));
+            assertEquals(expected.canCurrentPlayerPlay(), snapshot.canCurrentPlayerPlay());
+            return;
+        }
+        fail("No seed gave the human a playable card");
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.proyecto3_.model.Game;
+
+import org.junit.jupiter.api.Test;
+import java.util.SplittableRandom;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the PacingPolicy class.
+ */
+class PacingPolicyTest {
+
+    @Test
+    void defaultDelaysShouldStayInTheirRanges() {
+        var random = new SplittableRandom(1);
+        for (int i = 0; i < 1000; i++) {
+            long think = PacingPolicy.DEFAULT.thinkMillis(random);
+            long draw = PacingPolicy.DEFAULT.drawMillis(random);
+            assertTrue(think >= 2000 && think < 4000, "think: " + think);
+            assertTrue(draw >= 2000 && draw < 3000, "draw: " + draw);
+        }
+        assertEquals(1000, PacingPolicy.DEFAULT.endMillis());
+        assertFalse(PacingPolicy.DEFAULT.isTurbo());
+    }
+
+    @Test
+    void turboShouldNeverDelay() {
+        var random = new SplittableRandom(2);
+        assertEquals(0, PacingPolicy.TURBO.thinkMillis(random));
+        assertEquals(0, PacingPolicy.TURBO.drawMillis(random));
+        assertEquals(0, PacingPolicy.TURBO.endMillis());
+        assertTrue(PacingPolicy.TURBO.isTurbo());
+    }
+
+    @Test
+    void invalidDelaysShouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> new PacingPolicy(-1, 0, 0, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> new PacingPolicy(500, 100, 0, 0, 0));
+    }
+}
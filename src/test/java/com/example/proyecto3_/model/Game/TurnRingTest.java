@@ -0,0 +1,54 @@
+package com.example.proyecto3_.model.Game;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the TurnRing class.
+ * Each test validates turn order and elimination behavior.
+ */
+class TurnRingTest {
+
+    // ===== advance() =====
+
+    @Test
+    void advanceShouldWrapAround() {
+        var ring = new TurnRing(3);
+        assertEquals(1, ring.advance());
+        assertEquals(2, ring.advance());
+        assertEquals(0, ring.advance());
+    }
+
+    // ===== eliminate() =====
+
+    @Test
+    void advanceShouldSkipEliminatedSeats() {
+        var ring = new TurnRing(4);
+        ring.eliminate(2);
+        ring.advance();
+        assertEquals(3, ring.advance());
+        assertFalse(ring.isActive(2));
+        assertEquals(3, ring.activeCount());
+    }
+
+    @Test
+    void advanceShouldWorkFromTheEliminatedCurrentSeat() {
+        var ring = new TurnRing(4);
+        ring.advance(); // seat 1
+        ring.eliminate(1);
+        assertEquals(2, ring.advance());
+    }
+
+    // ===== isGameOver() / firstActive() =====
+
+    @Test
+    void lastActiveSeatShouldBeTheWinner() {
+        var ring = new TurnRing(3);
+        ring.eliminate(0);
+        assertFalse(ring.isGameOver());
+        ring.eliminate(2);
+        assertTrue(ring.isGameOver());
+        assertEquals(1, ring.firstActive());
+        assertEquals(1, ring.advance());
+    }
+}
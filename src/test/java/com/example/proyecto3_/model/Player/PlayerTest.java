@@ -22,19 +22,17 @@ class PlayerTest {
     }
 
     @Test
-    void addCardShouldTurnFaceUpForHuman() {
+    void humanHandShouldBeFaceUp() {
         var player = new Player("Human", false);
-        var card = new Card("K", "Spades");
-        player.addCard(card);
-        assertTrue(card.isFaceUp());
+        player.addCard(Card.of("K", "Spades"));
+        assertTrue(player.isHandFaceUp());
     }
 
     @Test
-    void addCardShouldNotTurnFaceUpForMachine() {
+    void machineHandShouldNotBeFaceUp() {
         var player = new Player("Bot", true);
-        var card = new Card("K", "Hearts");
-        player.addCard(card);
-        assertFalse(card.isFaceUp());
+        player.addCard(Card.of("K", "Hearts"));
+        assertFalse(player.isHandFaceUp());
     }
 
     // ===== removeCard() =====
@@ -80,6 +78,28 @@ class PlayerTest {
         assertTrue(player.canPlay(45)); // 45 - 10 = 35 <= 50
     }
 
+    @Test
+    void canPlayShouldUseAceAsOneNearTheLimit() {
+        var player = new Player("Bot", true);
+        player.addCard(Card.of("A", "Hearts"));
+        assertTrue(player.canPlay(49)); // 49 + 1 = 50
+        assertFalse(player.canPlay(50));
+    }
+
+    // ===== hasCard() =====
+
+    @Test
+    void hasCardShouldTrackAddAndRemove() {
+        var player = new Player("Bot", true);
+        var card = Card.of("9", "Clubs");
+        assertFalse(player.hasCard(card));
+        player.addCard(card);
+        assertTrue(player.hasCard(card));
+        player.removeCard(card);
+        assertFalse(player.hasCard(card));
+        assertEquals(0, player.getHandMask().size());
+    }
+
     // ===== selectCard() =====
 
     @Test
@@ -0,0 +1,59 @@
+package com.example.proyecto3_.model.Simulation;
+
+import com.example.proyecto3_.model.Bot.BotStrategy;
+import com.example.proyecto3_.model.Bot.FirstLegalStrategy;
+import org.junit.jupiter.api.Test;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the ParallelSimulation class.
+ * Each test checks how worker results are split and merged.
+ */
+class ParallelSimulationTest {
+
+    // ===== run() =====
+
+    @Test
+    void runShouldPlayEveryRequestedGame() {
+        var result = new ParallelSimulation(4, 1, 8L).run(5000);
+        assertEquals(5000, result.getGames());
+    }
+
+    @Test
+    void resultShouldNotDependOnThreadCount() {
+        var single = new ForkJoinPool(1);
+        var multi = new ForkJoinPool(4);
+        try {
+            var first = new ParallelSimulation(3, 1, 8L, single).run(5000);
+            var second = new ParallelSimulation(3, 1, 8L, multi).run(5000);
+            assertEquals(first.getTotalTurns(), second.getTotalTurns());
+            assertEquals(first.getWins(1), second.getWins(1));
+        } finally {
+            single.shutdown();
+            multi.shutdown();
+        }
+    }
+
+    @Test
+    void everyLeafTaskShouldGetItsOwnStrategies() {
+        Set<BotStrategy> created = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+        var pool = new ForkJoinPool(2);
+        try {
+            var simulation = new ParallelSimulation(3, 1, 8L, pool, () -> {
+                BotStrategy strategy = new FirstLegalStrategy();
+                created.add(strategy);
+                return SimulationEngine.sameStrategy(3, strategy);
+            });
+            // 4 * GAMES_PER_TASK games split into exactly four leaves
+            assertEquals(4 * ParallelSimulation.GAMES_PER_TASK,
+                    simulation.run(4 * ParallelSimulation.GAMES_PER_TASK).getGames());
+            assertEquals(4, created.size());
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
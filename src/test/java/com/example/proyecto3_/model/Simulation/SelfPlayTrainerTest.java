@@ -0,0 +1,94 @@
+package com.example.proyecto3_.model.Simulation;
+
+import com.example.proyecto3_.model.Bot.BotStrategy;
+import com.example.proyecto3_.model.Bot.FirstLegalStrategy;
+import com.example.proyecto3_.model.Bot.LearnedPolicyStrategy;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the SelfPlayTrainer class and the policy it produces.
+ */
+class SelfPlayTrainerTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void sameSeedShouldGiveSameWeights() {
+        float[] first = new SelfPlayTrainer(3, 1, 3, 0.2, 7L).train(2, 2000);
+        float[] second = new SelfPlayTrainer(3, 1, 3, 0.2, 7L).train(2, 2000);
+        assertEquals(LearnedPolicyStrategy.ENTRIES, first.length);
+        assertArrayEquals(first, second);
+    }
+
+    @Test
+    void learnerShouldReceiveEveryDecision() {
+        var trainer = new SelfPlayTrainer(4, 1, 2, 0.2, 3L);
+        float[] weights = trainer.train(1, 1000);
+        assertTrue(trainer.getLastDecisions() > 1000);
+        for (float w : weights) {
+            assertTrue(w > 0.0f && w < 1.0f);
+        }
+    }
+
+    @Test
+    void learnedPolicyShouldRoundTripAndBeatRandomPlay() throws IOException {
+        float[] weights = new SelfPlayTrainer(2, 1, 2, 0.2, 11L).train(2, 20_000);
+        Path file = dir.resolve("policy.bin");
+        try (OutputStream out = Files.newOutputStream(file)) {
+            SelfPlayTrainer.write(weights, out);
+        }
+        assertArrayEquals(weights, LearnedPolicyStrategy.read(file));
+
+        BotStrategy[] strategies = {new LearnedPolicyStrategy(file), BotStrategy.named("random-legal")};
+        var result = new SimulationEngine(2, 1, new SplittableRandom(5), strategies).run(4000);
+        assertTrue(result.getWins(0) > result.getWins(1),
+                "wins: " + result.getWins(0) + " vs " + result.getWins(1));
+    }
+
+    @Test
+    void namedShouldLoadTheConfiguredPolicyOrFallBack() throws IOException {
+        Path file = dir.resolve("weights.bin");
+        try (OutputStream out = Files.newOutputStream(file)) {
+            SelfPlayTrainer.write(new float[LearnedPolicyStrategy.ENTRIES], out);
+        }
+        String previous = System.getProperty(LearnedPolicyStrategy.PROPERTY);
+        String previousStrategy = System.getProperty(BotStrategy.PROPERTY);
+        try {
+            System.setProperty(LearnedPolicyStrategy.PROPERTY, file.toString());
+            assertInstanceOf(LearnedPolicyStrategy.class, BotStrategy.named("learned-policy"));
+
+            // The way the desktop game picks its default strategy at startup
+            System.setProperty(BotStrategy.PROPERTY, "learned-policy");
+            assertInstanceOf(LearnedPolicyStrategy.class, BotStrategy.fromSystemProperty());
+
+            System.setProperty(LearnedPolicyStrategy.PROPERTY, dir.resolve("missing.bin").toString());
+            assertInstanceOf(FirstLegalStrategy.class, BotStrategy.named("learned-policy"));
+        } finally {
+            if (previous == null) {
+                System.clearProperty(LearnedPolicyStrategy.PROPERTY);
+            } else {
+                System.setProperty(LearnedPolicyStrategy.PROPERTY, previous);
+            }
+            if (previousStrategy == null) {
+                System.clearProperty(BotStrategy.PROPERTY);
+            } else {
+                System.setProperty(BotStrategy.PROPERTY, previousStrategy);
+            }
+        }
+    }
+
+    @Test
+    void corruptWeightsShouldBeRejected() throws IOException {
+        Path file = dir.resolve("bad.bin");
+        Files.write(file, new byte[]{0, 0, 0, 1});
+        assertThrows(IOException.class, () -> new LearnedPolicyStrategy(file));
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.proyecto3_.model.Simulation;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the SimulationEngine class.
+ * Each test runs a small batch of headless games.
+ */
+class SimulationEngineTest {
+
+    // ===== run() =====
+
+    @Test
+    void runShouldPlayEveryGameToAWinner() {
+        var result = new SimulationEngine(4, 1, 5L).run(200);
+        assertEquals(200, result.getGames());
+        long wins = 0;
+        for (int seat = 0; seat < result.getNumPlayers(); seat++) {
+            wins += result.getWins(seat);
+        }
+        assertEquals(result.getGames() - result.getUnfinishedGames(), wins);
+        assertEquals(3 * wins, result.getTotalEliminations());
+    }
+
+    @Test
+    void sameSeedShouldGiveSameResult() {
+        var first = new SimulationEngine(3, 1, 21L).run(50);
+        var second = new SimulationEngine(3, 1, 21L).run(50);
+        assertEquals(first.getTotalTurns(), second.getTotalTurns());
+        assertEquals(first.getWins(0), second.getWins(0));
+    }
+
+    @Test
+    void largeTablesShouldRunWithAShoe() {
+        var result = new SimulationEngine(16, 2, 3L).run(20);
+        assertEquals(20, result.getGames());
+    }
+}
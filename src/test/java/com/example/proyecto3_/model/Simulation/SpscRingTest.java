@@ -0,0 +1,57 @@
+package com.example.proyecto3_.model.Simulation;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the SpscRing class.
+ */
+class SpscRingTest {
+
+    @Test
+    void ringShouldKeepOrderAndRefuseWhenFull() {
+        var ring = new SpscRing(4);
+        assertEquals(SpscRing.EMPTY, ring.poll());
+        for (long v = 0; v < 4; v++) {
+            assertTrue(ring.offer(v));
+        }
+        assertFalse(ring.offer(4));
+        assertEquals(0, ring.poll());
+        assertTrue(ring.offer(4));
+        for (long v = 1; v <= 4; v++) {
+            assertEquals(v, ring.poll());
+        }
+        assertEquals(SpscRing.EMPTY, ring.poll());
+    }
+
+    @Test
+    void capacityMustBeAPowerOfTwo() {
+        assertThrows(IllegalArgumentException.class, () -> new SpscRing(6));
+        assertThrows(IllegalArgumentException.class, () -> new SpscRing(0));
+    }
+
+    @Test
+    void consumerShouldReceiveEveryValueFromAnotherThread() throws InterruptedException {
+        var ring = new SpscRing(64);
+        int count = 200_000;
+        Thread producer = new Thread(() -> {
+            for (long v = 0; v < count; v++) {
+                ring.put(v);
+            }
+        });
+        producer.start();
+
+        long expected = 0;
+        for (int idle = 0; expected < count; ) {
+            long v = ring.poll();
+            if (v == SpscRing.EMPTY) {
+                SpscRing.backOff(idle++);
+            } else {
+                assertEquals(expected++, v);
+                idle = 0;
+            }
+        }
+        producer.join();
+        assertEquals(SpscRing.EMPTY, ring.poll());
+    }
+}